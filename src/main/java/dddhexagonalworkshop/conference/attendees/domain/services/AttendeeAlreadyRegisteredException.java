@@ -0,0 +1,18 @@
+package dddhexagonalworkshop.conference.attendees.domain.services;
+
+/**
+ * Thrown when an attendee is registered with an email that is already registered.
+ */
+public class AttendeeAlreadyRegisteredException extends RuntimeException {
+
+    private final String email;
+
+    public AttendeeAlreadyRegisteredException(String email) {
+        super("Attendee already registered: " + email);
+        this.email = email;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
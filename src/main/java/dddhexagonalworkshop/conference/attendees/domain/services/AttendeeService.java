@@ -1,13 +1,23 @@
 package dddhexagonalworkshop.conference.attendees.domain.services;
 
 import dddhexagonalworkshop.conference.attendees.domain.aggregates.Attendee;
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
 import dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeDTO;
 import dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeEventPublisher;
 import dddhexagonalworkshop.conference.attendees.persistence.AttendeeRepository;
-import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @ApplicationScoped
 public class AttendeeService {
@@ -18,8 +28,46 @@ public class AttendeeService {
     @Inject
     AttendeeEventPublisher attendeeEventPublisher;
 
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @ConfigProperty(name = "attendees.registration.flush-size", defaultValue = "50")
+    int flushSize;
+
     @Transactional
+    @WithSpan("AttendeeService.registerAttendee")
     public AttendeeDTO registerAttendee(RegisterAttendeeCommand registerAttendeeAttendeeCommand) {
+        return register(registerAttendeeAttendeeCommand);
+    }
+
+    /**
+     * Registers the attendees in a single transaction: either all of them are stored and announced or, if one of
+     * them cannot be stored, none is, so the request can simply be retried. Every
+     * {@code attendees.registration.flush-size} attendees the pending inserts are flushed and the persistence
+     * context is cleared, so memory does not grow with the size of the payload.
+     */
+    @Transactional
+    @WithSpan("AttendeeService.registerAttendees")
+    public List<AttendeeDTO> registerAttendees(List<RegisterAttendeeCommand> registerAttendeeCommands) {
+        List<AttendeeDTO> attendeeDTOs = new ArrayList<>(registerAttendeeCommands.size());
+        for (RegisterAttendeeCommand registerAttendeeCommand : registerAttendeeCommands) {
+            attendeeDTOs.add(register(registerAttendeeCommand));
+            if (flushSize > 0 && attendeeDTOs.size() % flushSize == 0) {
+                attendeeRepository.flushAndClear();
+            }
+        }
+        return attendeeDTOs;
+    }
+
+    /**
+     * @throws AttendeeAlreadyRegisteredException if the email is already registered, including earlier in the same
+     * transaction; the natural-id lookup sees the attendees this transaction has persisted
+     */
+    private AttendeeDTO register(RegisterAttendeeCommand registerAttendeeAttendeeCommand) {
+        if (attendeeRepository.findByEmail(registerAttendeeAttendeeCommand.email()).isPresent()) {
+            throw new AttendeeAlreadyRegisteredException(registerAttendeeAttendeeCommand.email());
+        }
+
         // Logic to register an attendee
         AttendeeRegistrationResult result = Attendee.registerAttendee(registerAttendeeAttendeeCommand.email(),
                 registerAttendeeAttendeeCommand.firstName(),
@@ -28,13 +76,46 @@ public class AttendeeService {
 
 
         //persist the attendee
-        QuarkusTransaction.requiringNew().run(() -> {
-            attendeeRepository.persist(result.attendee());
-        });
+        attendeeRepository.persist(result.attendee());
 
         //notify the system that a new attendee has been registered
-        attendeeEventPublisher.publish(result.attendeeRegisteredEvent());
+        publishAfterCommit(result.attendeeRegisteredEvent());
 
         return new AttendeeDTO(result.attendee().getEmail(), result.attendee().getFullName());
     }
+
+    /**
+     * Publishes the event once the transaction has committed, so that a registration that is rolled back, for
+     * example because its email is already registered, is never announced.
+     */
+    private void publishAfterCommit(AttendeeRegisteredEvent attendeeRegisteredEvent) {
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != Status.STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    attendeeEventPublisher.publish(attendeeRegisteredEvent);
+                } catch (RuntimeException e) {
+                    Log.errorf(e, "Registered %s but could not publish the event", attendeeRegisteredEvent.email());
+                }
+            }
+        });
+    }
+
+    public Optional<AttendeeDTO> findAttendee(String email) {
+        return attendeeRepository.findByEmail(email)
+                .map(attendeeEntity -> new AttendeeDTO(attendeeEntity.getEmail(), attendeeEntity.getFullName()));
+    }
+
+    public List<AttendeeDTO> listAttendees(int pageIndex, int pageSize) {
+        return attendeeRepository.listAttendees(pageIndex, pageSize).stream()
+                .map(attendeeEntity -> new AttendeeDTO(attendeeEntity.getEmail(), attendeeEntity.getFullName()))
+                .toList();
+    }
 }
@@ -1,7 +1,34 @@
 package dddhexagonalworkshop.conference.attendees.domain.valueobjects;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
 public enum MealPreference {
     VEGETARIAN,
     GLUTEN_FREE,
     NONE;
+
+    private static final Map<String, MealPreference> LOOKUP = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (MealPreference mealPreference : values()) {
+            LOOKUP.put(mealPreference.name(), mealPreference);
+        }
+        LOOKUP.put("Gluten Free", GLUTEN_FREE);
+        LOOKUP.put("Gluten-Free", GLUTEN_FREE);
+        LOOKUP.put("Veggie", VEGETARIAN);
+    }
+
+    /**
+     * Parses a meal preference name or alias, ignoring case and surrounding whitespace.
+     *
+     * @return the meal preference, or an empty optional if the value is not recognized
+     */
+    public static Optional<MealPreference> parse(String mealPreference) {
+        if (mealPreference == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LOOKUP.get(mealPreference.strip()));
+    }
 }
@@ -1,13 +1,46 @@
 package dddhexagonalworkshop.conference.attendees.domain.valueobjects;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
 public enum TShirtSize {
     XS, S, M, L, XL, XXL;
 
-    public static TShirtSize fromString(String size) {
-        try {
-            return TShirtSize.valueOf(size.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid T-Shirt size: " + size);
+    /**
+     * Case-insensitive lookup of the size names and the spelled-out aliases found in registration data,
+     * built once so that an unrecognized size is reported as an empty result rather than an exception.
+     */
+    private static final Map<String, TShirtSize> LOOKUP = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (TShirtSize size : values()) {
+            LOOKUP.put(size.name(), size);
         }
+        LOOKUP.put("Extra Small", XS);
+        LOOKUP.put("X-Small", XS);
+        LOOKUP.put("Small", S);
+        LOOKUP.put("Medium", M);
+        LOOKUP.put("Large", L);
+        LOOKUP.put("Extra Large", XL);
+        LOOKUP.put("X-Large", XL);
+        LOOKUP.put("XX-Large", XXL);
+        LOOKUP.put("2XL", XXL);
+    }
+
+    /**
+     * Parses a size name or alias, ignoring case and surrounding whitespace.
+     *
+     * @return the size, or an empty optional if the value is not recognized
+     */
+    public static Optional<TShirtSize> parse(String size) {
+        if (size == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LOOKUP.get(size.strip()));
+    }
+
+    public static TShirtSize fromString(String size) {
+        return parse(size).orElseThrow(() -> new IllegalArgumentException("Invalid T-Shirt size: " + size));
     }
 }
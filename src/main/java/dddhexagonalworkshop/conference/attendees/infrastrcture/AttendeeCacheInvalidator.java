@@ -0,0 +1,97 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.hibernate.SessionFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps this replica's second-level cache in step with writes made on other replicas. Every replica consumes the
+ * {@code attendees} topic in its own consumer group, so each one sees every attendee event, including its own.
+ *
+ * <p>Events only mark the cache as stale; the cached listings are evicted at most once per
+ * {@code attendees.cache.invalidation-interval}, however many events arrived in between. Replayed events carry the
+ * {@link AttendeeEventPublisher#REPLAY_HEADER} header and are skipped, since they describe attendees that are
+ * already stored.
+ */
+@ApplicationScoped
+public class AttendeeCacheInvalidator {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    Counter invalidations;
+
+    Counter skippedReplays;
+
+    Timer invalidationLag;
+
+    /**
+     * Write time of the oldest event not yet applied to the cache, or {@code null} when the cache is up to date.
+     */
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        invalidations = Counter.builder("attendees.cache.invalidations")
+                .description("Evictions of the local second-level cache caused by attendee events")
+                .register(meterRegistry);
+        skippedReplays = Counter.builder("attendees.cache.invalidations.skipped")
+                .description("Replayed attendee events that did not invalidate the local cache")
+                .register(meterRegistry);
+        invalidationLag = Timer.builder("attendees.cache.invalidation.lag")
+                .description("Time between an attendee event being written to the topic and the local cache being invalidated")
+                .register(meterRegistry);
+    }
+
+    @Incoming("attendees-cache")
+    public CompletionStage<Void> invalidate(Message<AttendeeRegisteredEvent> message) {
+        @SuppressWarnings("rawtypes")
+        Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+        if (metadata.map(kafkaMetadata -> kafkaMetadata.getHeaders().lastHeader(AttendeeEventPublisher.REPLAY_HEADER) != null).orElse(false)) {
+            skippedReplays.increment();
+            return message.ack();
+        }
+
+        Instant written = metadata.map(IncomingKafkaRecordMetadata::getTimestamp)
+                .filter(timestamp -> timestamp.toEpochMilli() > 0)
+                .orElseGet(Instant::now);
+        oldestPending.accumulateAndGet(written, (pending, next) -> pending == null || next.isBefore(pending) ? next : pending);
+        Log.debugf("Attendee cache is stale after %s", message.getPayload().email());
+        return message.ack();
+    }
+
+    /**
+     * Evicts the cached listings if any event arrived since the last eviction.
+     */
+    @Scheduled(every = "${attendees.cache.invalidation-interval:1s}")
+    void evictPending() {
+        Instant oldest = oldestPending.getAndSet(null);
+        if (oldest == null) {
+            return;
+        }
+        // A newly registered attendee cannot be in the entity or natural-id cache yet, only in cached listings.
+        // Update events will also evict the attendee's entity and natural-id entries.
+        sessionFactory.getCache().evictDefaultQueryRegion();
+        invalidations.increment();
+        invalidationLag.record(Duration.between(oldest, Instant.now()));
+    }
+}
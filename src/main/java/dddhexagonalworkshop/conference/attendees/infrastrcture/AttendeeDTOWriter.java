@@ -0,0 +1,49 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes an {@link AttendeeDTO} with Jackson's streaming generator instead of reflective record serialization.
+ * Setting {@code attendees.json.streaming-codecs=false} falls back to the default Jackson writer.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class AttendeeDTOWriter implements MessageBodyWriter<AttendeeDTO> {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.json.streaming-codecs", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return enabled && type == AttendeeDTO.class;
+    }
+
+    @Override
+    public void writeTo(AttendeeDTO attendeeDTO, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(entityStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("email", attendeeDTO.email());
+            generator.writeStringField("fullName", attendeeDTO.fullName());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dddhexagonalworkshop.conference.attendees.infrastrcture;
 
+import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeAlreadyRegisteredException;
 import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeService;
 import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
 import io.quarkus.logging.Log;
@@ -7,8 +8,12 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
 @Path("/attendees")
 @Consumes(MediaType.APPLICATION_JSON)
@@ -18,6 +23,12 @@ public class AttendeeEndpoint {
     @Inject
     AttendeeService attendeeService;
 
+    @Inject
+    AttendeeEventReplayer attendeeEventReplayer;
+
+    @ConfigProperty(name = "attendees.listing.max-page-size", defaultValue = "100")
+    int maxPageSize;
+
     @POST
     public Response registerAttendee(RegisterAttendeeCommand registerAttendeeCommand) {
         Log.debugf("Creating attendee %s", registerAttendeeCommand);
@@ -29,4 +40,73 @@ public class AttendeeEndpoint {
         return Response.created(URI.create("/" + attendeeDTO.email())).entity(attendeeDTO).build();
     }
 
+    @GET
+    @Path("/{email}")
+    public Response getAttendee(@PathParam("email") String email) {
+        return attendeeService.findAttendee(email)
+                .map(attendeeDTO -> Response.ok(attendeeDTO).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Lists a page of attendees. The page size is clamped to {@code attendees.listing.max-page-size}.
+     */
+    @GET
+    public List<AttendeeDTO> listAttendees(@QueryParam("page") @DefaultValue("0") int pageIndex,
+                                           @QueryParam("size") @DefaultValue("50") int pageSize) {
+        if (pageIndex < 0) {
+            throw new BadRequestException("Page must not be negative: " + pageIndex);
+        }
+        return attendeeService.listAttendees(pageIndex, Math.clamp(pageSize, 1, maxPageSize));
+    }
+
+    /**
+     * Starts replaying attendees to the {@code channel} or {@code file} target in the background. Without
+     * {@code after} the replay resumes from the target's last checkpoint; {@code after=0} replays everything.
+     */
+    @POST
+    @Path("/replay")
+    public Response replayAttendees(@QueryParam("target") @DefaultValue("channel") String target,
+                                    @QueryParam("after") Long after,
+                                    @QueryParam("rate") @DefaultValue("0") int eventsPerSecond) {
+        ReplayTarget replayTarget = switch (target) {
+            case "channel" -> ReplayTarget.CHANNEL;
+            case "file" -> ReplayTarget.FILE;
+            default -> throw new BadRequestException("Unknown replay target: " + target);
+        };
+
+        try {
+            ReplayStatus replayStatus = attendeeEventReplayer.start(replayTarget, after, eventsPerSecond);
+            return Response.accepted(replayStatus).location(URI.create("/attendees/replay")).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT).entity(attendeeEventReplayer.status().orElse(null)).build();
+        }
+    }
+
+    @GET
+    @Path("/replay")
+    public Response getReplay() {
+        return attendeeEventReplayer.status()
+                .map(replayStatus -> Response.ok(replayStatus).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    @DELETE
+    @Path("/replay")
+    public Response cancelReplay() {
+        return attendeeEventReplayer.cancel()
+                .map(replayStatus -> Response.accepted(replayStatus).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Reports a registration whose email is already registered.
+     */
+    @ServerExceptionMapper
+    public Response mapAlreadyRegistered(AttendeeAlreadyRegisteredException attendeeAlreadyRegisteredException) {
+        return Response.status(Response.Status.CONFLICT)
+                .entity(Map.of("message", attendeeAlreadyRegisteredException.getMessage(),
+                        "email", attendeeAlreadyRegisteredException.getEmail()))
+                .build();
+    }
 }
@@ -0,0 +1,437 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Local, append-only journal of {@link AttendeeRegisteredEvent}s, used to decouple registration from broker
+ * availability. Events are written to memory-mapped segment files; each record carries a sequence number and
+ * a CRC so that a torn write at the tail is detected and discarded when the journal is reopened after a crash.
+ *
+ * <p>A record written to the mapping survives a crash of the process right away, but only survives a crash of
+ * the machine once it has been forced to the storage device. {@code attendees.journal.sync} decides when that
+ * happens: {@link Sync#APPEND} forces each record before {@link #append} returns, {@link Sync#INTERVAL} leaves
+ * it to the {@link AttendeeEventJournalForwarder}, which calls {@link #force()} every forward interval, so a
+ * machine crash can lose the events of the last interval.
+ *
+ * <p>Record layout: {@code int payloadLength | int crc | long sequence | payload}. A length of zero marks the
+ * end of the written part of a segment. The payload holds the email, the full name and the W3C
+ * {@code traceparent} of the registration as length-prefixed UTF-8, so the forwarder can continue its trace.
+ *
+ * <p>The sequence up to which events have been forwarded is committed to an offset file next to the segments;
+ * segments that only hold committed events are unmapped and deleted by {@link #compact()}.
+ */
+@ApplicationScoped
+public class AttendeeEventJournal {
+
+    static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final String OFFSET_FILE = "forwarder.offset";
+
+    @ConfigProperty(name = "attendees.journal.enabled", defaultValue = "false")
+    boolean enabled;
+
+    // no default: a journal must not end up in a build directory, so it is required once the journal is enabled
+    @ConfigProperty(name = "attendees.journal.directory")
+    Optional<Path> directory;
+
+    @ConfigProperty(name = "attendees.journal.segment-size", defaultValue = "16777216")
+    int segmentSize;
+
+    @ConfigProperty(name = "attendees.journal.sync", defaultValue = "interval")
+    Sync sync;
+
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+
+    private final CRC32 writeCrc = new CRC32();
+
+    private Path journalDirectory;
+
+    private MappedByteBuffer writeSegment;
+
+    // whether records were appended to the write segment since it was last forced
+    private boolean unforced;
+
+    private volatile long lastSequence;
+
+    private volatile long committedSequence;
+
+    // position of the last record handed out by readAfter, so that tailing does not rescan the segment
+    private long cursorSegment = -1;
+
+    private int cursorPosition;
+
+    private long cursorSequence = -1;
+
+    @PostConstruct
+    void open() {
+        if (!enabled) {
+            return;
+        }
+        journalDirectory = directory.orElseThrow(() -> new IllegalStateException(
+                "attendees.journal.directory must be set when attendees.journal.enabled is true"));
+        try {
+            Files.createDirectories(journalDirectory);
+            try (Stream<Path> files = Files.list(journalDirectory)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .forEach(file -> segments.put(baseSequence(file), map(file)));
+            }
+            Path offsetFile = journalDirectory.resolve(OFFSET_FILE);
+            committedSequence = Files.exists(offsetFile) ? Long.parseLong(Files.readString(offsetFile).trim()) : 0;
+            lastSequence = committedSequence;
+            for (Map.Entry<Long, MappedByteBuffer> segment : segments.entrySet()) {
+                recover(segment.getKey(), segment.getValue());
+            }
+            if (segments.isEmpty()) {
+                roll();
+            } else {
+                writeSegment = segments.lastEntry().getValue();
+            }
+            Log.infof("Opened attendee event journal in %s at sequence %d, committed %d", journalDirectory, lastSequence, committedSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open attendee event journal in " + journalDirectory, e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (writeSegment != null) {
+            writeSegment.force();
+            unforced = false;
+        }
+        segments.values().forEach(AttendeeEventJournal::unmap);
+        segments.clear();
+        writeSegment = null;
+        cursorSequence = -1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Appends the event to the journal.
+     *
+     * @param traceParent W3C {@code traceparent} of the registration, or {@code null} if it was not traced
+     * @return the sequence number assigned to the event
+     */
+    public synchronized long append(AttendeeRegisteredEvent event, String traceParent) {
+        byte[] email = bytes(event.email());
+        byte[] fullName = bytes(event.fullName());
+        byte[] traceParentBytes = bytes(traceParent);
+        int payloadLength = stringSize(email) + stringSize(fullName) + stringSize(traceParentBytes);
+        int recordSize = HEADER_SIZE + payloadLength;
+        if (recordSize + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Event does not fit in a journal segment: " + event);
+        }
+        // always leave room for the zero length that terminates the segment
+        if (writeSegment.remaining() < recordSize + Integer.BYTES) {
+            roll();
+        }
+
+        long sequence = lastSequence + 1;
+        int start = writeSegment.position();
+        writeSegment.position(start + HEADER_SIZE);
+        putString(writeSegment, email);
+        putString(writeSegment, fullName);
+        putString(writeSegment, traceParentBytes);
+
+        writeCrc.reset();
+        writeCrc.update(writeSegment.slice(start + HEADER_SIZE, payloadLength));
+        updateCrc(writeCrc, sequence);
+        writeSegment.putLong(start + Integer.BYTES + Integer.BYTES, sequence);
+        writeSegment.putInt(start + Integer.BYTES, (int) writeCrc.getValue());
+        // the length is written last, so a record without one is never read back
+        writeSegment.putInt(start, payloadLength);
+        if (sync == Sync.APPEND) {
+            writeSegment.force(start, recordSize);
+        } else {
+            unforced = true;
+        }
+
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Forces the records appended since the last call to the storage device.
+     */
+    public synchronized void force() {
+        if (unforced) {
+            writeSegment.force();
+            unforced = false;
+        }
+    }
+
+    /**
+     * Reads up to {@code max} events that follow the given sequence number.
+     */
+    public synchronized List<JournalEntry> readAfter(long sequence, int max) {
+        List<JournalEntry> entries = new ArrayList<>(Math.min(max, 256));
+        long last = lastSequence;
+        if (sequence >= last) {
+            return entries;
+        }
+        if (cursorSequence != sequence) {
+            seek(sequence);
+        }
+        while (entries.size() < max && cursorSequence < last) {
+            ByteBuffer segment = segments.get(cursorSegment).duplicate();
+            int payloadLength = segment.getInt(cursorPosition);
+            if (payloadLength == 0) {
+                cursorSegment = segments.higherKey(cursorSegment);
+                cursorPosition = 0;
+                continue;
+            }
+            long entrySequence = segment.getLong(cursorPosition + Integer.BYTES + Integer.BYTES);
+            int end = cursorPosition + HEADER_SIZE + payloadLength;
+            segment.position(cursorPosition + HEADER_SIZE);
+            AttendeeRegisteredEvent event = new AttendeeRegisteredEvent(getString(segment), getString(segment));
+            // records written before the trace context was journaled end after the full name
+            String traceParent = segment.position() < end ? getString(segment) : null;
+            entries.add(new JournalEntry(entrySequence, event, traceParent));
+            cursorPosition = end;
+            cursorSequence = entrySequence;
+        }
+        return entries;
+    }
+
+    /**
+     * Records that every event up to and including the given sequence number has been forwarded.
+     */
+    public void commit(long sequence) {
+        try {
+            Path offsetFile = journalDirectory.resolve(OFFSET_FILE);
+            Path tmp = journalDirectory.resolve(OFFSET_FILE + ".tmp");
+            Files.writeString(tmp, Long.toString(sequence), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(tmp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committedSequence = sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to commit journal offset " + sequence, e);
+        }
+    }
+
+    public long committedSequence() {
+        return committedSequence;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Deletes the segments whose events have all been committed. The segment being written to is always kept.
+     */
+    public synchronized void compact() {
+        Iterator<Map.Entry<Long, MappedByteBuffer>> iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, MappedByteBuffer> segment = iterator.next();
+            Long next = segments.higherKey(segment.getKey());
+            if (next == null || next - 1 > committedSequence) {
+                return;
+            }
+            iterator.remove();
+            if (cursorSegment == segment.getKey()) {
+                cursorSequence = -1;
+            }
+            unmap(segment.getValue());
+            try {
+                Files.deleteIfExists(segmentFile(segment.getKey()));
+            } catch (IOException e) {
+                // only holds committed events, so it is skipped and compacted again after a restart
+                Log.warnf(e, "Unable to delete journal segment %d", segment.getKey());
+            }
+            Log.debugf("Compacted journal segment %d", segment.getKey());
+        }
+    }
+
+    /**
+     * Scans a segment on startup, stopping at the first record that was not completely written or whose CRC
+     * does not match. Anything after that point is zeroed so that new records can be appended over it.
+     */
+    private void recover(long base, MappedByteBuffer segment) {
+        CRC32 crc = new CRC32();
+        int position = 0;
+        boolean torn = false;
+        while (position + HEADER_SIZE <= segment.capacity()) {
+            int payloadLength = segment.getInt(position);
+            if (payloadLength == 0) {
+                break;
+            }
+            if (payloadLength < 0 || position + HEADER_SIZE + payloadLength + Integer.BYTES > segment.capacity()) {
+                torn = true;
+                break;
+            }
+            long sequence = segment.getLong(position + Integer.BYTES + Integer.BYTES);
+            crc.reset();
+            crc.update(segment.slice(position + HEADER_SIZE, payloadLength));
+            updateCrc(crc, sequence);
+            if ((int) crc.getValue() != segment.getInt(position + Integer.BYTES)) {
+                Log.warnf("Discarding torn journal record %d in segment %d", sequence, base);
+                torn = true;
+                break;
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            position += HEADER_SIZE + payloadLength;
+        }
+        if (torn) {
+            for (int i = position; i < segment.capacity(); i++) {
+                segment.put(i, (byte) 0);
+            }
+        }
+        segment.position(position);
+    }
+
+    private void seek(long sequence) {
+        Map.Entry<Long, MappedByteBuffer> segment = segments.floorEntry(sequence + 1);
+        if (segment == null) {
+            segment = segments.firstEntry();
+        }
+        cursorSegment = segment.getKey();
+        cursorPosition = 0;
+        cursorSequence = segment.getKey() - 1;
+        ByteBuffer buffer = segment.getValue().duplicate();
+        while (cursorSequence < sequence) {
+            int payloadLength = buffer.getInt(cursorPosition);
+            if (payloadLength == 0) {
+                break;
+            }
+            cursorSequence = buffer.getLong(cursorPosition + Integer.BYTES + Integer.BYTES);
+            cursorPosition += HEADER_SIZE + payloadLength;
+        }
+    }
+
+    private void roll() {
+        if (writeSegment != null) {
+            writeSegment.force();
+            unforced = false;
+        }
+        long base = lastSequence + 1;
+        writeSegment = map(segmentFile(base));
+        segments.put(base, writeSegment);
+        Log.debugf("Rolled journal to segment %d", base);
+    }
+
+    private MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map journal segment " + file, e);
+        }
+    }
+
+    private Path segmentFile(long base) {
+        return journalDirectory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+    }
+
+    private static long baseSequence(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Releases the mapping right away instead of when the buffer is garbage collected, which could be long after
+     * its file was deleted. The buffer must not be used afterwards; every access to it happens under this
+     * journal's lock, which the caller holds.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invoke(buffer);
+            } catch (Throwable e) {
+                Log.warnf(e, "Unable to unmap journal segment, it is released when garbage collected");
+            }
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Log.warnf("Journal segments cannot be unmapped explicitly on this JVM: %s", e);
+            return null;
+        }
+    }
+
+    private static void updateCrc(CRC32 crc, long sequence) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * When appended records are forced to the storage device.
+     */
+    public enum Sync {
+        /** Before each append returns. */
+        APPEND,
+        /** On every run of the forwarder. */
+        INTERVAL
+    }
+
+    public record JournalEntry(long sequence, AttendeeRegisteredEvent event, String traceParent) {
+    }
+}
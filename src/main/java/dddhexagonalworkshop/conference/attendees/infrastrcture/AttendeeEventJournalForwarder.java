@@ -0,0 +1,78 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeEventJournal.JournalEntry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Tails the {@link AttendeeEventJournal} and sends its events to the {@code attendees} channel. The journal
+ * offset is only committed once the broker has acknowledged a batch, so events are delivered at least once.
+ * Each event is sent within the trace context journaled with it, so its Kafka span joins the registration's trace.
+ * Every run first forces the journal, which bounds what a machine crash can lose when it syncs on an interval.
+ */
+@ApplicationScoped
+public class AttendeeEventJournalForwarder {
+
+    private static final TextMapGetter<Map<String, String>> TRACE_PARENT_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return carrier == null ? null : carrier.get(key);
+        }
+    };
+
+    @Inject
+    AttendeeEventJournal attendeeEventJournal;
+
+    @Inject
+    AttendeeEventPublisher attendeeEventPublisher;
+
+    @ConfigProperty(name = "attendees.journal.forward-batch-size", defaultValue = "100")
+    int batchSize;
+
+    @Scheduled(every = "${attendees.journal.forward-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void forward() {
+        if (!attendeeEventJournal.isEnabled()) {
+            return;
+        }
+        try {
+            attendeeEventJournal.force();
+            List<JournalEntry> entries;
+            while (!(entries = attendeeEventJournal.readAfter(attendeeEventJournal.committedSequence(), batchSize)).isEmpty()) {
+                CompletableFuture.allOf(entries.stream()
+                        .map(this::publish)
+                        .map(CompletionStage::toCompletableFuture)
+                        .toArray(CompletableFuture[]::new)).join();
+                attendeeEventJournal.commit(entries.getLast().sequence());
+                Log.debugf("Forwarded journal up to sequence %d", entries.getLast().sequence());
+            }
+            attendeeEventJournal.compact();
+        } catch (RuntimeException e) {
+            Log.warnf(e, "Unable to forward journal after sequence %d, retrying", attendeeEventJournal.committedSequence());
+        }
+    }
+
+    private CompletionStage<Void> publish(JournalEntry entry) {
+        Context context = entry.traceParent() == null ? Context.root() : W3CTraceContextPropagator.getInstance()
+                .extract(Context.root(), Map.of(AttendeeEventPublisher.TRACE_PARENT, entry.traceParent()), TRACE_PARENT_GETTER);
+        try (Scope ignored = context.makeCurrent()) {
+            return attendeeEventPublisher.publishAsync(entry.event());
+        }
+    }
+}
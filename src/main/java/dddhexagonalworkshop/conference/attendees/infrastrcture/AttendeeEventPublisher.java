@@ -1,17 +1,84 @@
 package dddhexagonalworkshop.conference.attendees.infrastrcture;
 
 import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @ApplicationScoped
 public class AttendeeEventPublisher {
 
+    /**
+     * Kafka header marking an event sent by a replay rather than by a registration.
+     */
+    public static final String REPLAY_HEADER = "attendees-replay";
+
+    static final String TRACE_PARENT = "traceparent";
+
     @Channel("attendees")
     public Emitter<AttendeeRegisteredEvent> attendeesTopic;
 
+    @Inject
+    AttendeeEventJournal attendeeEventJournal;
+
+    /**
+     * Publishes the event. When the local journal is enabled the event is appended to it, together with the current
+     * trace context, and sent to the broker by the {@link AttendeeEventJournalForwarder}, so registrations do not
+     * wait on the broker.
+     */
+    @WithSpan("AttendeeEventPublisher.publish")
     public void publish(AttendeeRegisteredEvent attendeeRegisteredEvent) {
+        if (attendeeEventJournal.isEnabled()) {
+            attendeeEventJournal.append(attendeeRegisteredEvent, currentTraceParent());
+            return;
+        }
         attendeesTopic.send(attendeeRegisteredEvent);
     }
+
+    /**
+     * Sends the event and returns a stage that completes once the broker has acknowledged it.
+     */
+    public CompletionStage<Void> publishAsync(AttendeeRegisteredEvent attendeeRegisteredEvent) {
+        return attendeesTopic.send(attendeeRegisteredEvent);
+    }
+
+    /**
+     * Sends a replayed event marked with the {@value #REPLAY_HEADER} header, so that consumers which only react to
+     * new registrations can skip it. The stage completes once the broker has acknowledged it.
+     */
+    public CompletionStage<Void> publishReplayAsync(AttendeeRegisteredEvent attendeeRegisteredEvent) {
+        CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+        OutgoingKafkaRecordMetadata<?> metadata = OutgoingKafkaRecordMetadata.builder()
+                .withHeaders(new RecordHeaders().add(REPLAY_HEADER, new byte[]{1}))
+                .build();
+        attendeesTopic.send(Message.of(attendeeRegisteredEvent, Metadata.of(metadata),
+                () -> {
+                    acknowledged.complete(null);
+                    return CompletableFuture.completedFuture(null);
+                },
+                failure -> {
+                    acknowledged.completeExceptionally(failure);
+                    return CompletableFuture.completedFuture(null);
+                }));
+        return acknowledged;
+    }
+
+    private static String currentTraceParent() {
+        Map<String, String> carrier = new HashMap<>();
+        W3CTraceContextPropagator.getInstance().inject(Context.current(), carrier, Map::put);
+        return carrier.get(TRACE_PARENT);
+    }
 }
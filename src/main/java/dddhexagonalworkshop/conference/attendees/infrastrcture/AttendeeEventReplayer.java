@@ -0,0 +1,225 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import dddhexagonalworkshop.conference.attendees.infrastrcture.ReplayStatus.State;
+import dddhexagonalworkshop.conference.attendees.persistence.AttendeeReplayRow;
+import dddhexagonalworkshop.conference.attendees.persistence.AttendeeRepository;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Streams every stored attendee as an {@link AttendeeRegisteredEvent} so that downstream services can rebuild
+ * their state. Attendees are read in keyset-paginated pages, each in its own short transaction, so a replay
+ * over millions of rows neither grows the heap nor holds a long-running transaction.
+ *
+ * <p>A replay runs as a background job, one at a time. After every page has been written to the target, the id
+ * of its last attendee is persisted as the target's checkpoint in the replay directory; starting a replay without
+ * an explicit starting point resumes from that checkpoint. A page may be written twice if the node dies between
+ * writing it and persisting the checkpoint, so consumers must tolerate duplicates.
+ */
+@ApplicationScoped
+public class AttendeeEventReplayer {
+
+    static final String SNAPSHOT_FILE = "attendee-snapshot.jsonl";
+
+    @Inject
+    AttendeeRepository attendeeRepository;
+
+    @Inject
+    AttendeeEventPublisher attendeeEventPublisher;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.replay.page-size", defaultValue = "100")
+    int pageSize;
+
+    @ConfigProperty(name = "attendees.replay.directory")
+    Path directory;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "attendee-replay"));
+
+    private volatile ReplayStatus status;
+
+    private Future<?> running;
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a replay in the background.
+     *
+     * @param afterId replay the attendees with an id greater than this one; {@code null} resumes from the target's checkpoint
+     * @param eventsPerSecond maximum replay rate; zero or less replays as fast as the target accepts
+     * @throws IllegalStateException if a replay is already running
+     */
+    public synchronized ReplayStatus start(ReplayTarget target, Long afterId, int eventsPerSecond) {
+        if (status != null && status.state() == State.RUNNING) {
+            throw new IllegalStateException("A replay to " + status.target() + " is already running");
+        }
+        long checkpoint = afterId != null ? afterId : readCheckpoint(target);
+        status = new ReplayStatus(target, State.RUNNING, 0, checkpoint, null);
+        boolean resumed = afterId == null;
+        running = executor.submit(() -> run(target, checkpoint, resumed, eventsPerSecond));
+        Log.infof("Started replay to %s after %d", target, checkpoint);
+        return status;
+    }
+
+    /**
+     * Cancels the running replay, if any. It stops after the page it is writing; its checkpoint is kept.
+     */
+    public synchronized Optional<ReplayStatus> cancel() {
+        if (running != null) {
+            running.cancel(true);
+        }
+        return status();
+    }
+
+    public Optional<ReplayStatus> status() {
+        return Optional.ofNullable(status);
+    }
+
+    private void run(ReplayTarget target, long afterId, boolean resumed, int eventsPerSecond) {
+        try {
+            State finished = switch (target) {
+                case CHANNEL -> replay(target, afterId, eventsPerSecond, this::sendToChannel);
+                case FILE -> replayToFile(afterId, resumed, eventsPerSecond);
+            };
+            status = status.finished(finished, null);
+            Log.infof("Replay to %s %s, %d attendees, checkpoint %d", target, finished, status.replayed(), status.checkpoint());
+        } catch (RuntimeException e) {
+            status = status.finished(State.FAILED, e.getMessage());
+            Log.errorf(e, "Replay to %s failed at checkpoint %d", target, status.checkpoint());
+        }
+    }
+
+    /**
+     * Each page is acknowledged by the broker before the next one is read. Replayed events are marked as such,
+     * so the {@link AttendeeCacheInvalidator}s do not evict their caches for them.
+     */
+    private void sendToChannel(List<AttendeeRegisteredEvent> events) {
+        CompletableFuture.allOf(events.stream()
+                .map(attendeeEventPublisher::publishReplayAsync)
+                .map(CompletionStage::toCompletableFuture)
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * A resumed replay appends to the snapshot file, continuing the snapshot it was interrupted in; a replay from
+     * an explicit starting point starts a new snapshot, so no attendee is written to it twice.
+     */
+    private State replayToFile(long afterId, boolean resumed, int eventsPerSecond) {
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(directory);
+            try (BufferedWriter writer = Files.newBufferedWriter(snapshotFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                return replay(ReplayTarget.FILE, afterId, eventsPerSecond, events -> {
+                    try {
+                        for (AttendeeRegisteredEvent event : events) {
+                            writer.write(objectMapper.writeValueAsString(event));
+                            writer.newLine();
+                        }
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write attendee snapshot to " + snapshotFile, e);
+        }
+    }
+
+    private State replay(ReplayTarget target, long afterId, int eventsPerSecond, Consumer<List<AttendeeRegisteredEvent>> sink) {
+        long checkpoint = afterId;
+        long replayed = 0;
+        long started = System.nanoTime();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long after = checkpoint;
+            List<AttendeeReplayRow> page = QuarkusTransaction.requiringNew()
+                    .call(() -> attendeeRepository.findReplayPage(after, pageSize));
+            if (page.isEmpty()) {
+                return State.COMPLETED;
+            }
+
+            sink.accept(page.stream()
+                    .map(row -> new AttendeeRegisteredEvent(row.email(), row.fullName()))
+                    .toList());
+            checkpoint = page.getLast().id();
+            replayed += page.size();
+            writeCheckpoint(target, checkpoint);
+            status = status.progressed(replayed, checkpoint);
+            Log.debugf("Replayed %d attendees to %s, checkpoint %d", Long.valueOf(replayed), target, checkpoint);
+
+            throttle(started, replayed, eventsPerSecond);
+        }
+        return State.CANCELLED;
+    }
+
+    /**
+     * Sleeps until the given number of events is within the requested rate. A rate of zero or less disables throttling.
+     * An interrupt ends the sleep early and leaves the thread interrupted, which stops the replay.
+     */
+    private void throttle(long started, long replayed, int eventsPerSecond) {
+        if (eventsPerSecond <= 0) {
+            return;
+        }
+        long due = started + TimeUnit.SECONDS.toNanos(replayed) / eventsPerSecond;
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    long readCheckpoint(ReplayTarget target) {
+        Path checkpointFile = directory.resolve(target.checkpointFileName());
+        try {
+            return Files.exists(checkpointFile) ? Long.parseLong(Files.readString(checkpointFile).trim()) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read replay checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private void writeCheckpoint(ReplayTarget target, long checkpoint) {
+        Path checkpointFile = directory.resolve(target.checkpointFileName());
+        Path tmp = directory.resolve(target.checkpointFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(tmp, Long.toString(checkpoint), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write replay checkpoint " + checkpointFile, e);
+        }
+    }
+}
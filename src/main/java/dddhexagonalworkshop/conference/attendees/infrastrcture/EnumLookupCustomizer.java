@@ -0,0 +1,42 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize;
+import dddhexagonalworkshop.conference.attendees.salesteam.DietaryRequirements;
+import dddhexagonalworkshop.conference.attendees.salesteam.SalesteamRegistrationRequest;
+import dddhexagonalworkshop.conference.attendees.salesteam.Size;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds the request enums through their case-insensitive, alias-aware lookups. Salesteam payloads are read to the
+ * end so that every unrecognized value is reported at once.
+ */
+@Singleton
+public class EnumLookupCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        SimpleModule module = new SimpleModule("attendee-enums");
+        module.addDeserializer(TShirtSize.class, new LenientEnumDeserializer<>(TShirtSize.class, TShirtSize::parse));
+        module.addDeserializer(MealPreference.class, new LenientEnumDeserializer<>(MealPreference.class, MealPreference::parse));
+        module.addDeserializer(Size.class, new LenientEnumDeserializer<>(Size.class, Size::parse));
+        module.addDeserializer(DietaryRequirements.class, new LenientEnumDeserializer<>(DietaryRequirements.class, DietaryRequirements::parse));
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDescription, JsonDeserializer<?> deserializer) {
+                if (beanDescription.getBeanClass() == SalesteamRegistrationRequest.class) {
+                    return new InvalidValueCollectingDeserializer(deserializer);
+                }
+                return deserializer;
+            }
+        });
+        objectMapper.registerModule(module);
+    }
+}
@@ -0,0 +1,138 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes finished spans to a local JSON-lines file, as a stand-in for a collector when running locally.
+ * Spans are handed to a {@link BatchSpanProcessor}, so the request thread never waits on the file, and only
+ * sampled spans ever reach it. Enabled with {@code attendees.tracing.file.enabled=true} at build time.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "attendees.tracing.file.enabled", stringValue = "true")
+public class FileSpanProcessor implements SpanProcessor {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.tracing.file.path", defaultValue = "target/spans.jsonl")
+    Path file;
+
+    private SpanProcessor delegate;
+
+    @PostConstruct
+    void createDelegate() {
+        delegate = BatchSpanProcessor.builder(new FileSpanExporter(objectMapper, file)).build();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        delegate.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return delegate.isEndRequired();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    static class FileSpanExporter implements SpanExporter {
+
+        private final ObjectMapper objectMapper;
+
+        private final Path file;
+
+        FileSpanExporter(ObjectMapper objectMapper, Path file) {
+            this.objectMapper = objectMapper;
+            this.file = file;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            try {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (SpanData span : spans) {
+                        writer.write(objectMapper.writeValueAsString(toMap(span)));
+                        writer.newLine();
+                    }
+                }
+                return CompletableResultCode.ofSuccess();
+            } catch (IOException e) {
+                Log.warnf(e, "Unable to export %d spans to %s", spans.size(), file);
+                return CompletableResultCode.ofFailure();
+            }
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        private static Map<String, Object> toMap(SpanData span) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("traceId", span.getTraceId());
+            json.put("spanId", span.getSpanId());
+            json.put("parentSpanId", span.getParentSpanId());
+            json.put("name", span.getName());
+            json.put("kind", span.getKind().name());
+            json.put("startEpochNanos", span.getStartEpochNanos());
+            json.put("durationNanos", span.getEndEpochNanos() - span.getStartEpochNanos());
+            json.put("status", span.getStatus().getStatusCode().name());
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+            json.put("attributes", attributes);
+            return json;
+        }
+    }
+}
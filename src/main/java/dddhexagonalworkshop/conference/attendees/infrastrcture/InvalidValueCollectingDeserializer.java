@@ -0,0 +1,44 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import dddhexagonalworkshop.conference.attendees.salesteam.InvalidCustomerValue;
+import dddhexagonalworkshop.conference.attendees.salesteam.InvalidCustomerValuesException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a whole payload while the {@link LenientEnumDeserializer}s collect unrecognized values instead of failing
+ * on the first one, then reports all of them in an {@link InvalidCustomerValuesException}.
+ */
+class InvalidValueCollectingDeserializer extends DelegatingDeserializer {
+
+    /**
+     * Context attribute holding the {@code List<InvalidCustomerValue>} collected for the current payload.
+     */
+    static final Object INVALID_VALUES = InvalidValueCollectingDeserializer.class;
+
+    InvalidValueCollectingDeserializer(JsonDeserializer<?> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new InvalidValueCollectingDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        List<InvalidCustomerValue> invalidValues = new ArrayList<>();
+        context.setAttribute(INVALID_VALUES, invalidValues);
+        Object value = super.deserialize(parser, context);
+        if (!invalidValues.isEmpty()) {
+            throw new InvalidCustomerValuesException(invalidValues);
+        }
+        return value;
+    }
+}
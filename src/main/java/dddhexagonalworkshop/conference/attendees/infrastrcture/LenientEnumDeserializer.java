@@ -0,0 +1,47 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import dddhexagonalworkshop.conference.attendees.salesteam.InvalidCustomerValue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Deserializes an enum through its precomputed lookup instead of {@code Enum.valueOf}. Unrecognized values
+ * are reported as an {@link com.fasterxml.jackson.databind.exc.InvalidFormatException}, which carries the
+ * JSON path of the offending field, unless an {@link InvalidValueCollectingDeserializer} is reading the payload,
+ * in which case they are collected and the field is left null.
+ */
+class LenientEnumDeserializer<E extends Enum<E>> extends StdScalarDeserializer<E> {
+
+    private final Function<String, Optional<E>> lookup;
+
+    LenientEnumDeserializer(Class<E> type, Function<String, Optional<E>> lookup) {
+        super(type);
+        this.lookup = lookup;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return (E) context.handleUnexpectedToken(handledType(), parser);
+        }
+        String value = parser.getText();
+        Optional<E> parsed = lookup.apply(value);
+        if (parsed.isPresent()) {
+            return parsed.get();
+        }
+        List<InvalidCustomerValue> invalidValues = (List<InvalidCustomerValue>) context.getAttribute(InvalidValueCollectingDeserializer.INVALID_VALUES);
+        if (invalidValues != null) {
+            invalidValues.add(InvalidCustomerValue.at(parser, value));
+            return null;
+        }
+        return (E) context.handleWeirdStringValue(handledType(), value, "not one of the accepted values");
+    }
+}
@@ -0,0 +1,161 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads a {@link RegisterAttendeeCommand} with Jackson's streaming parser instead of reflective record binding.
+ * The parser comes from the application's {@code JsonFactory}, which recycles its buffers between requests.
+ * Setting {@code attendees.json.streaming-codecs=false} falls back to the default Jackson reader.
+ */
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+public class RegisterAttendeeCommandReader implements MessageBodyReader<RegisterAttendeeCommand> {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.json.streaming-codecs", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return enabled && type == RegisterAttendeeCommand.class;
+    }
+
+    @Override
+    public RegisterAttendeeCommand readFrom(Class<RegisterAttendeeCommand> type, Type genericType, Annotation[] annotations,
+                                            MediaType mediaType, MultivaluedMap<String, String> httpHeaders,
+                                            InputStream entityStream) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(entityStream)) {
+            parser.nextToken();
+            return readCommand(parser);
+        } catch (JsonParseException e) {
+            throw new BadRequestException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static RegisterAttendeeCommand readCommand(JsonParser parser) throws IOException {
+        expectObject(parser, RegisterAttendeeCommand.class);
+        String email = null;
+        String firstName = null;
+        String lastName = null;
+        Address address = null;
+        MealPreference mealPreference = null;
+        TShirtSize tShirtSize = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            try {
+                switch (field) {
+                    case "email" -> email = readString(parser);
+                    case "firstName" -> firstName = readString(parser);
+                    case "lastName" -> lastName = readString(parser);
+                    case "address" -> address = readAddress(parser);
+                    case "mealPreference" -> mealPreference = readMealPreference(parser);
+                    case "tShirtSize" -> tShirtSize = readTShirtSize(parser);
+                    default -> parser.skipChildren();
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, RegisterAttendeeCommand.class, field);
+            }
+        }
+        return new RegisterAttendeeCommand(email, firstName, lastName, address, mealPreference, tShirtSize);
+    }
+
+    private static Address readAddress(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(parser, Address.class);
+        String street = null;
+        String street2 = null;
+        String city = null;
+        String stateOrProvince = null;
+        String postCode = null;
+        String country = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            try {
+                switch (field) {
+                    case "street" -> street = readString(parser);
+                    case "street2" -> street2 = readString(parser);
+                    case "city" -> city = readString(parser);
+                    case "stateOrProvince" -> stateOrProvince = readString(parser);
+                    case "postCode" -> postCode = readString(parser);
+                    case "country" -> country = readString(parser);
+                    default -> parser.skipChildren();
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, Address.class, field);
+            }
+        }
+        return new Address(street, street2, city, stateOrProvince, postCode, country);
+    }
+
+    private static MealPreference readMealPreference(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw MismatchedInputException.from(parser, MealPreference.class, "Expected a JSON string");
+        }
+        String value = parser.getText();
+        return MealPreference.parse(value).orElseThrow(() ->
+                InvalidFormatException.from(parser, "not one of the accepted values", value, MealPreference.class));
+    }
+
+    private static TShirtSize readTShirtSize(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw MismatchedInputException.from(parser, TShirtSize.class, "Expected a JSON string");
+        }
+        String value = parser.getText();
+        return TShirtSize.parse(value).orElseThrow(() ->
+                InvalidFormatException.from(parser, "not one of the accepted values", value, TShirtSize.class));
+    }
+
+    /**
+     * Reads a string field the way Jackson binds one: scalars are coerced to their text, objects and arrays are
+     * rejected rather than read as null, which would leave the parser inside them.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, String.class, "Expected a JSON string");
+        }
+        return parser.getValueAsString();
+    }
+
+    private static void expectObject(JsonParser parser, Class<?> type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, type, "Expected a JSON object");
+        }
+    }
+}
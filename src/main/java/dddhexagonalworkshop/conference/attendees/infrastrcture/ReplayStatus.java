@@ -0,0 +1,20 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+/**
+ * Progress of a replay job. The checkpoint is the id of the last attendee written to the target; it is also
+ * persisted after every page, so a replay that failed or was cancelled resumes from it.
+ */
+public record ReplayStatus(ReplayTarget target, State state, long replayed, long checkpoint, String error) {
+
+    public enum State {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    ReplayStatus progressed(long replayed, long checkpoint) {
+        return new ReplayStatus(target, state, replayed, checkpoint, error);
+    }
+
+    ReplayStatus finished(State state, String error) {
+        return new ReplayStatus(target, state, replayed, checkpoint, error);
+    }
+}
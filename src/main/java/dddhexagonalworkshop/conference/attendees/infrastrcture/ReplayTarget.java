@@ -0,0 +1,12 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+/**
+ * Where a replay sends the attendee events: the {@code attendees} channel or the local snapshot file.
+ */
+public enum ReplayTarget {
+    CHANNEL, FILE;
+
+    String checkpointFileName() {
+        return name().toLowerCase() + ".checkpoint";
+    }
+}
@@ -1,11 +1,12 @@
 package dddhexagonalworkshop.conference.attendees.persistence;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 
-@Entity
+@Entity @Cacheable
 public class AddressEntity {
 
     @Id @GeneratedValue
@@ -1,8 +1,10 @@
 package dddhexagonalworkshop.conference.attendees.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
-@Entity @Table(name = "attendee")
+@Entity @Table(name = "attendee") @Cacheable @NaturalIdCache
 public class AttendeeEntity {
 
     @Id @GeneratedValue
@@ -11,13 +13,17 @@ public class AttendeeEntity {
     @OneToOne(cascade = CascadeType.ALL)
     AddressEntity address;
 
+    @NaturalId
     private String email;
 
+    private String fullName;
+
     protected AttendeeEntity() {
     }
 
-    protected AttendeeEntity(String email, AddressEntity address) {
+    protected AttendeeEntity(String email, String fullName, AddressEntity address) {
         this.email = email;
+        this.fullName = fullName;
         this.address = address;
     }
 
@@ -25,8 +31,12 @@ public class AttendeeEntity {
         return id;
     }
 
-    protected String getEmail() {
+    public String getEmail() {
         return email;
     }
 
+    public String getFullName() {
+        return fullName;
+    }
+
 }
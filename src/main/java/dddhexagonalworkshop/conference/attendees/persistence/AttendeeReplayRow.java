@@ -0,0 +1,4 @@
+package dddhexagonalworkshop.conference.attendees.persistence;
+
+public record AttendeeReplayRow(Long id, String email, String fullName) {
+}
@@ -2,7 +2,14 @@ package dddhexagonalworkshop.conference.attendees.persistence;
 
 import dddhexagonalworkshop.conference.attendees.domain.aggregates.Attendee;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.Optional;
 
 @ApplicationScoped
 public class AttendeeRepository implements PanacheRepository<AttendeeEntity> {
@@ -14,6 +21,50 @@ public class AttendeeRepository implements PanacheRepository<AttendeeEntity> {
         persist(attendeeEntity);
     }
 
+    /**
+     * Sends the pending inserts to the database and detaches the persisted attendees, so that a long unit of work
+     * does not keep every attendee it registered in memory.
+     */
+    public void flushAndClear() {
+        flush();
+        getEntityManager().clear();
+    }
+
+    /**
+     * Looks an attendee up by email through the natural-id cache, so repeated lookups do not reach the database.
+     */
+    public Optional<AttendeeEntity> findByEmail(String email) {
+        return getEntityManager().unwrap(Session.class)
+                .bySimpleNaturalId(AttendeeEntity.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * Lists attendees ordered by id. The result is held in the query cache, which Hibernate invalidates
+     * whenever the attendee table is written to.
+     */
+    public List<AttendeeEntity> listAttendees(int pageIndex, int pageSize) {
+        return findAll(Sort.by("id"))
+                .page(Page.of(pageIndex, pageSize))
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .list();
+    }
+
+    /**
+     * Reads the next page of attendees after the given id as a scalar projection, ordered by id.
+     * Keyset pagination keeps every page an index range scan no matter how deep the replay is,
+     * and the projection keeps the rows out of the persistence context.
+     */
+    public List<AttendeeReplayRow> findReplayPage(long afterId, int pageSize) {
+        return getEntityManager()
+                .createQuery("select new dddhexagonalworkshop.conference.attendees.persistence.AttendeeReplayRow(a.id, a.email, a.fullName) "
+                        + "from AttendeeEntity a where a.id > :afterId order by a.id", AttendeeReplayRow.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(pageSize)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, pageSize)
+                .getResultList();
+    }
+
     private AttendeeEntity fromAggregate(Attendee attendee) {
         AddressEntity addressEntity = new AddressEntity(
                 attendee.getAddress().street(),
@@ -23,7 +74,7 @@ public class AttendeeRepository implements PanacheRepository<AttendeeEntity> {
                 attendee.getAddress().postCode(),
                 attendee.getAddress().country()
         );
-        AttendeeEntity entity = new AttendeeEntity(attendee.getEmail(), addressEntity);
+        AttendeeEntity entity = new AttendeeEntity(attendee.getEmail(), attendee.getFullName(), addressEntity);
         return entity;
     }
 }
@@ -1,5 +1,32 @@
 package dddhexagonalworkshop.conference.attendees.salesteam;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
 public enum DietaryRequirements {
     VEGETARIAN, GLUTEN_FREE, NONE;
+
+    private static final Map<String, DietaryRequirements> LOOKUP = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (DietaryRequirements dietaryRequirements : values()) {
+            LOOKUP.put(dietaryRequirements.name(), dietaryRequirements);
+        }
+        LOOKUP.put("Gluten Free", GLUTEN_FREE);
+        LOOKUP.put("Gluten-Free", GLUTEN_FREE);
+        LOOKUP.put("Veggie", VEGETARIAN);
+    }
+
+    /**
+     * Parses dietary requirements as sent by the CRM, ignoring case and surrounding whitespace.
+     *
+     * @return the dietary requirements, or an empty optional if the value is not recognized
+     */
+    public static Optional<DietaryRequirements> parse(String dietaryRequirements) {
+        if (dietaryRequirements == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LOOKUP.get(dietaryRequirements.strip()));
+    }
 }
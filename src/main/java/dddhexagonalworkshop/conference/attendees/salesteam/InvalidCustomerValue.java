@@ -0,0 +1,30 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A value the CRM sent that does not map to one of our enums, with the path of the field it was sent in,
+ * e.g. {@code customers[3].customerDetails.size}.
+ */
+public record InvalidCustomerValue(String path, String value) {
+
+    /**
+     * Creates an invalid value at the field the parser is currently on.
+     */
+    public static InvalidCustomerValue at(JsonParser parser, String value) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (JsonStreamContext context = parser.getParsingContext(); context != null && !context.inRoot(); context = context.getParent()) {
+            if (context.inArray()) {
+                segments.push("[" + context.getCurrentIndex() + "]");
+            } else if (context.getCurrentName() != null) {
+                segments.push("." + context.getCurrentName());
+            }
+        }
+        String path = String.join("", segments);
+        return new InvalidCustomerValue(path.startsWith(".") ? path.substring(1) : path, value);
+    }
+}
@@ -0,0 +1,20 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import java.util.List;
+
+/**
+ * Thrown once a salesteam payload has been read completely, listing every customer value that could not be mapped.
+ */
+public class InvalidCustomerValuesException extends RuntimeException {
+
+    private final List<InvalidCustomerValue> invalidValues;
+
+    public InvalidCustomerValuesException(List<InvalidCustomerValue> invalidValues) {
+        super("Invalid customer values: " + invalidValues);
+        this.invalidValues = List.copyOf(invalidValues);
+    }
+
+    public List<InvalidCustomerValue> getInvalidValues() {
+        return invalidValues;
+    }
+}
@@ -1,6 +1,7 @@
 package dddhexagonalworkshop.conference.attendees.salesteam;
 
 import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
+import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeAlreadyRegisteredException;
 import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeService;
 import io.quarkus.logging.Log;
 import jakarta.inject.Inject;
@@ -10,8 +11,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 
 import java.util.List;
+import java.util.Map;
 
 @Path("/salesteam")
 @Consumes(MediaType.APPLICATION_JSON)
@@ -26,7 +29,34 @@ public class SalesteamEndpoint {
         Log.debugf("Registering attendees for %s", salesteamRegistrationRequest);
 
         List<RegisterAttendeeCommand> commands = SalesteamToDomainTranslator.translate(salesteamRegistrationRequest.customers());
-        commands.forEach(attendeeService::registerAttendee);
+        attendeeService.registerAttendees(commands);
         return Response.accepted().build();
     }
+
+    /**
+     * Reports every value the CRM sent that does not map to one of our enums, each with the path of the customer
+     * it belongs to, e.g. {@code customers[3].customerDetails.size}. Nothing is registered.
+     */
+    @ServerExceptionMapper
+    public Response mapInvalidValues(InvalidCustomerValuesException invalidCustomerValuesException) {
+        Log.warnf("Rejected salesteam registration, invalid values %s", invalidCustomerValuesException.getInvalidValues());
+
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(Map.of("invalidValues", invalidCustomerValuesException.getInvalidValues()))
+                .build();
+    }
+
+    /**
+     * Reports a customer whose email is already registered. Nothing in the request is registered, so it can be
+     * sent again without that customer.
+     */
+    @ServerExceptionMapper
+    public Response mapAlreadyRegistered(AttendeeAlreadyRegisteredException attendeeAlreadyRegisteredException) {
+        Log.warnf("Rejected salesteam registration, %s", attendeeAlreadyRegisteredException.getMessage());
+
+        return Response.status(Response.Status.CONFLICT)
+                .entity(Map.of("message", attendeeAlreadyRegisteredException.getMessage(),
+                        "email", attendeeAlreadyRegisteredException.getEmail()))
+                .build();
+    }
 }
@@ -0,0 +1,200 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a {@link SalesteamRegistrationRequest} with Jackson's streaming parser instead of reflective record binding,
+ * so bulk payloads are bound customer by customer without building an intermediate tree.
+ * Unrecognized enum values do not stop the parse: every one of them is collected with the path of the customer
+ * it belongs to and reported together in an {@link InvalidCustomerValuesException}.
+ * Setting {@code attendees.json.streaming-codecs=false} falls back to the default Jackson reader.
+ */
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+public class SalesteamRegistrationRequestReader implements MessageBodyReader<SalesteamRegistrationRequest> {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.json.streaming-codecs", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return enabled && type == SalesteamRegistrationRequest.class;
+    }
+
+    @Override
+    public SalesteamRegistrationRequest readFrom(Class<SalesteamRegistrationRequest> type, Type genericType,
+                                                 Annotation[] annotations, MediaType mediaType,
+                                                 MultivaluedMap<String, String> httpHeaders,
+                                                 InputStream entityStream) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(entityStream)) {
+            parser.nextToken();
+            return readRequest(parser);
+        } catch (JsonParseException e) {
+            throw new BadRequestException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static SalesteamRegistrationRequest readRequest(JsonParser parser) throws IOException {
+        expectObject(parser, SalesteamRegistrationRequest.class);
+        List<Customer> customers = null;
+        List<InvalidCustomerValue> invalidValues = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (field.equals("customers")) {
+                try {
+                    customers = readCustomers(parser, invalidValues);
+                } catch (JsonMappingException e) {
+                    throw JsonMappingException.wrapWithPath(e, SalesteamRegistrationRequest.class, field);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!invalidValues.isEmpty()) {
+            throw new InvalidCustomerValuesException(invalidValues);
+        }
+        return new SalesteamRegistrationRequest(customers);
+    }
+
+    private static List<Customer> readCustomers(JsonParser parser, List<InvalidCustomerValue> invalidValues) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "Expected a JSON array");
+        }
+        List<Customer> customers = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            try {
+                customers.add(readCustomer(parser, invalidValues));
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, customers, customers.size());
+            }
+        }
+        return customers;
+    }
+
+    private static Customer readCustomer(JsonParser parser, List<InvalidCustomerValue> invalidValues) throws IOException {
+        expectObject(parser, Customer.class);
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        String employer = null;
+        CustomerDetails customerDetails = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            try {
+                switch (field) {
+                    case "firstName" -> firstName = readString(parser);
+                    case "lastName" -> lastName = readString(parser);
+                    case "email" -> email = readString(parser);
+                    case "employer" -> employer = readString(parser);
+                    case "customerDetails" -> customerDetails = readCustomerDetails(parser, invalidValues);
+                    default -> parser.skipChildren();
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, Customer.class, field);
+            }
+        }
+        return new Customer(firstName, lastName, email, employer, customerDetails);
+    }
+
+    private static CustomerDetails readCustomerDetails(JsonParser parser, List<InvalidCustomerValue> invalidValues) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(parser, CustomerDetails.class);
+        DietaryRequirements dietaryRequirements = null;
+        Size size = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            try {
+                switch (field) {
+                    case "dietaryRequirements" -> dietaryRequirements = readDietaryRequirements(parser, invalidValues);
+                    case "size" -> size = readSize(parser, invalidValues);
+                    default -> parser.skipChildren();
+                }
+            } catch (JsonMappingException e) {
+                throw JsonMappingException.wrapWithPath(e, CustomerDetails.class, field);
+            }
+        }
+        return new CustomerDetails(dietaryRequirements, size);
+    }
+
+    private static DietaryRequirements readDietaryRequirements(JsonParser parser, List<InvalidCustomerValue> invalidValues) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw MismatchedInputException.from(parser, DietaryRequirements.class, "Expected a JSON string");
+        }
+        String value = parser.getText();
+        Optional<DietaryRequirements> dietaryRequirements = DietaryRequirements.parse(value);
+        if (dietaryRequirements.isEmpty()) {
+            invalidValues.add(InvalidCustomerValue.at(parser, value));
+        }
+        return dietaryRequirements.orElse(null);
+    }
+
+    private static Size readSize(JsonParser parser, List<InvalidCustomerValue> invalidValues) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw MismatchedInputException.from(parser, Size.class, "Expected a JSON string");
+        }
+        String value = parser.getText();
+        Optional<Size> size = Size.parse(value);
+        if (size.isEmpty()) {
+            invalidValues.add(InvalidCustomerValue.at(parser, value));
+        }
+        return size.orElse(null);
+    }
+
+    /**
+     * Objects and arrays in a string field are rejected, as the Jackson reader does; read as null they would leave
+     * the parser inside them and misread the fields that follow.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, String.class, "Expected a JSON string");
+        }
+        return parser.getValueAsString();
+    }
+
+    private static void expectObject(JsonParser parser, Class<?> type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, type, "Expected a JSON object");
+        }
+    }
+}
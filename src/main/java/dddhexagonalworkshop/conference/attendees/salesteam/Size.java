@@ -1,5 +1,38 @@
 package dddhexagonalworkshop.conference.attendees.salesteam;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
 public enum Size {
     XS,S,M,L,XL,XXL;
+
+    private static final Map<String, Size> LOOKUP = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (Size size : values()) {
+            LOOKUP.put(size.name(), size);
+        }
+        LOOKUP.put("Extra Small", XS);
+        LOOKUP.put("X-Small", XS);
+        LOOKUP.put("Small", S);
+        LOOKUP.put("Medium", M);
+        LOOKUP.put("Large", L);
+        LOOKUP.put("Extra Large", XL);
+        LOOKUP.put("X-Large", XL);
+        LOOKUP.put("XX-Large", XXL);
+        LOOKUP.put("2XL", XXL);
+    }
+
+    /**
+     * Parses a size as sent by the CRM, ignoring case and surrounding whitespace.
+     *
+     * @return the size, or an empty optional if the value is not recognized
+     */
+    public static Optional<Size> parse(String size) {
+        if (size == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LOOKUP.get(size.strip()));
+    }
 }
@@ -63,4 +63,48 @@ public class AttendeeServiceTest {
         Mockito.verify(attendeeEventPublisher).publish(any(
                 dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent.class));
     }
+
+    @Test
+    public void testRegisterAttendees() {
+        // Given: Prepare a bulk registration of two attendees
+        List<RegisterAttendeeCommand> commands = List.of(
+                new RegisterAttendeeCommand(
+                        "samwise.gamgee@shire.me",
+                        "Samwise",
+                        "Gamgee",
+                        new dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address(
+                                "Number 3",
+                                "Bagshot Row",
+                                "Hobbiton",
+                                "The Shire",
+                                "SH1 3RE",
+                                "Middle Earth"
+                        ),
+                        dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference.NONE,
+                        dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize.M),
+                new RegisterAttendeeCommand(
+                        "peregrin.took@shire.me",
+                        "Peregrin",
+                        "Took",
+                        new dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address(
+                                "Great Smials",
+                                null,
+                                "Tuckborough",
+                                "The Shire",
+                                "SH2 1TK",
+                                "Middle Earth"
+                        ),
+                        dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference.NONE,
+                        dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize.S));
+
+        // When: Call the service method
+        List<dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeDTO> attendeeDTOs = attendeeService.registerAttendees(commands);
+
+        // Then: Verify every attendee was persisted and announced
+        org.junit.jupiter.api.Assertions.assertEquals(2, attendeeDTOs.size());
+        Mockito.verify(attendeeRepository, Mockito.times(2)).persist(any(
+                dddhexagonalworkshop.conference.attendees.domain.aggregates.Attendee.class));
+        Mockito.verify(attendeeEventPublisher, Mockito.times(2)).publish(any(
+                dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent.class));
+    }
 }
@@ -0,0 +1,118 @@
+package dddhexagonalworkshop.conference.attendees.domain.services;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize;
+import dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeEventPublisher;
+import dddhexagonalworkshop.conference.attendees.persistence.AttendeeRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Registers attendees against the real repository to check that events are only published for committed registrations.
+ */
+@QuarkusTest
+public class AttendeeServiceTransactionTest {
+
+    @Inject
+    AttendeeService attendeeService;
+
+    @Inject
+    AttendeeRepository attendeeRepository;
+
+    @InjectMock
+    AttendeeEventPublisher attendeeEventPublisher;
+
+    String run;
+
+    @BeforeEach
+    public void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private RegisterAttendeeCommand command(String firstName) {
+        return new RegisterAttendeeCommand(firstName.toLowerCase() + "." + run + "@gondor.me", firstName, "of Gondor",
+                new Address("The Citadel", null, "Minas Tirith", "Gondor", "MT1 7TH", "Middle Earth"),
+                MealPreference.NONE, TShirtSize.L);
+    }
+
+    private boolean isStored(RegisterAttendeeCommand command) {
+        return QuarkusTransaction.requiringNew().call(() -> attendeeRepository.findByEmail(command.email())).isPresent();
+    }
+
+    @Test
+    public void testRolledBackRegistrationIsNotPublished() {
+        // Given: a registration whose transaction does not commit
+        RegisterAttendeeCommand denethor = command("Denethor");
+
+        // When: the caller's transaction is rolled back after the registration
+        QuarkusTransaction.requiringNew().run(() -> {
+            attendeeService.registerAttendee(denethor);
+            QuarkusTransaction.setRollbackOnly();
+        });
+
+        // Then: nothing is stored or published
+        assertFalse(isStored(denethor));
+        Mockito.verify(attendeeEventPublisher, Mockito.never()).publish(any(AttendeeRegisteredEvent.class));
+    }
+
+    @Test
+    public void testDuplicateRegistrationIsNotPublished() {
+        // Given: a registered attendee
+        RegisterAttendeeCommand boromir = command("Boromir");
+        attendeeService.registerAttendee(boromir);
+
+        // When: the same email is registered again
+        assertThrows(AttendeeAlreadyRegisteredException.class, () -> attendeeService.registerAttendee(boromir));
+
+        // Then: only the first registration is published
+        Mockito.verify(attendeeEventPublisher, Mockito.times(1)).publish(any(AttendeeRegisteredEvent.class));
+    }
+
+    @Test
+    public void testBulkRegistrationSpanningSeveralFlushes() {
+        // Given: more attendees than the test flush size of two
+        List<RegisterAttendeeCommand> commands = List.of(command("Imrahil"), command("Hurin"), command("Ingold"),
+                command("Bergil"), command("Hirgon"));
+
+        // When
+        attendeeService.registerAttendees(commands);
+
+        // Then: every attendee is stored and published
+        commands.forEach(command -> assertTrue(isStored(command), command.email() + " should be stored"));
+        Mockito.verify(attendeeEventPublisher, Mockito.times(5)).publish(any(AttendeeRegisteredEvent.class));
+    }
+
+    @Test
+    public void testBulkRegistrationIsOneUnitOfWork() {
+        // Given: a bulk registration whose last attendee repeats the first one, after the first flush
+        RegisterAttendeeCommand faramir = command("Faramir");
+        RegisterAttendeeCommand beregond = command("Beregond");
+
+        // When
+        assertThrows(AttendeeAlreadyRegisteredException.class, () -> attendeeService.registerAttendees(List.of(faramir, beregond, faramir)));
+
+        // Then: none of them is stored or published, so the request can be retried as is
+        assertFalse(isStored(faramir));
+        assertFalse(isStored(beregond));
+        Mockito.verify(attendeeEventPublisher, Mockito.never()).publish(any(AttendeeRegisteredEvent.class));
+
+        // And: the retry without the duplicate registers and publishes both
+        attendeeService.registerAttendees(List.of(faramir, beregond));
+        assertTrue(isStored(faramir));
+        assertTrue(isStored(beregond));
+        Mockito.verify(attendeeEventPublisher, Mockito.times(2)).publish(any(AttendeeRegisteredEvent.class));
+    }
+}
@@ -0,0 +1,34 @@
+package dddhexagonalworkshop.conference.attendees.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MealPreferenceTest {
+
+    @Test
+    @DisplayName("Should parse meal preferences ignoring case and surrounding whitespace")
+    public void testParseIgnoresCaseAndWhitespace() {
+        assertEquals(Optional.of(MealPreference.VEGETARIAN), MealPreference.parse("vegetarian "), "Trailing whitespace should be ignored");
+        assertEquals(Optional.of(MealPreference.NONE), MealPreference.parse(" None"), "Leading whitespace should be ignored");
+        assertEquals(Optional.of(MealPreference.GLUTEN_FREE), MealPreference.parse("GLUTEN_FREE"), "Exact names should parse");
+    }
+
+    @Test
+    @DisplayName("Should parse aliases")
+    public void testParseAliases() {
+        assertEquals(Optional.of(MealPreference.GLUTEN_FREE), MealPreference.parse("Gluten Free"), "Gluten Free should map to GLUTEN_FREE");
+        assertEquals(Optional.of(MealPreference.GLUTEN_FREE), MealPreference.parse("gluten-free"), "gluten-free should map to GLUTEN_FREE");
+        assertEquals(Optional.of(MealPreference.VEGETARIAN), MealPreference.parse("VEGGIE"), "Veggie should map to VEGETARIAN");
+    }
+
+    @Test
+    @DisplayName("Should return empty for unrecognized meal preferences")
+    public void testParseUnrecognized() {
+        assertTrue(MealPreference.parse("Second Breakfast").isEmpty(), "Unknown meal preferences should not parse");
+        assertTrue(MealPreference.parse(null).isEmpty(), "Null should not parse");
+    }
+}
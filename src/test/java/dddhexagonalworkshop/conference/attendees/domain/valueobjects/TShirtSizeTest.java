@@ -0,0 +1,35 @@
+package dddhexagonalworkshop.conference.attendees.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TShirtSizeTest {
+
+    @Test
+    @DisplayName("Should parse sizes ignoring case and surrounding whitespace")
+    public void testParseIgnoresCaseAndWhitespace() {
+        assertEquals(Optional.of(TShirtSize.XL), TShirtSize.parse("xl "), "Trailing whitespace should be ignored");
+        assertEquals(Optional.of(TShirtSize.M), TShirtSize.parse(" m"), "Leading whitespace should be ignored");
+        assertEquals(Optional.of(TShirtSize.XXL), TShirtSize.parse("XXL"), "Exact names should parse");
+    }
+
+    @Test
+    @DisplayName("Should parse spelled-out aliases")
+    public void testParseAliases() {
+        assertEquals(Optional.of(TShirtSize.L), TShirtSize.parse("Large"), "Large should map to L");
+        assertEquals(Optional.of(TShirtSize.XL), TShirtSize.parse("extra large"), "Extra large should map to XL");
+        assertEquals(Optional.of(TShirtSize.S), TShirtSize.parse("SMALL"), "Small should map to S");
+    }
+
+    @Test
+    @DisplayName("Should return empty for unrecognized sizes")
+    public void testParseUnrecognized() {
+        assertTrue(TShirtSize.parse("Enormous").isEmpty(), "Unknown sizes should not parse");
+        assertTrue(TShirtSize.parse(null).isEmpty(), "Null should not parse");
+        assertThrows(IllegalArgumentException.class, () -> TShirtSize.fromString("Enormous"));
+    }
+}
@@ -0,0 +1,74 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import io.smallrye.reactive.messaging.memory.InMemorySource;
+import jakarta.inject.Inject;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+@QuarkusTestResource(InMemoryAttendeesChannels.class)
+public class AttendeeCacheInvalidatorTest {
+
+    @Inject
+    @Connector("smallrye-in-memory")
+    InMemoryConnector inMemoryConnector;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    AttendeeCacheInvalidator attendeeCacheInvalidator;
+
+    private double invalidations() {
+        return meterRegistry.counter("attendees.cache.invalidations").count();
+    }
+
+    @Test
+    public void testCoalescesInvalidations() {
+        // Given: the number of invalidations applied so far
+        attendeeCacheInvalidator.evictPending();
+        double before = invalidations();
+        InMemorySource<AttendeeRegisteredEvent> attendeesCache = inMemoryConnector.source("attendees-cache");
+
+        // When: other replicas register several attendees before the next eviction
+        attendeesCache.send(new AttendeeRegisteredEvent("bilbo.baggins@shire.me", "Bilbo Baggins"));
+        attendeesCache.send(new AttendeeRegisteredEvent("frodo.baggins@shire.me", "Frodo Baggins"));
+        attendeesCache.send(new AttendeeRegisteredEvent("samwise.gamgee@shire.me", "Samwise Gamgee"));
+        attendeeCacheInvalidator.evictPending();
+        attendeeCacheInvalidator.evictPending();
+
+        // Then: the local cache is invalidated once
+        assertEquals(before + 1, invalidations());
+    }
+
+    @Test
+    public void testSkipsReplayedEvents() {
+        // Given: the number of invalidations and skipped replays so far
+        attendeeCacheInvalidator.evictPending();
+        double before = invalidations();
+        double skippedBefore = meterRegistry.counter("attendees.cache.invalidations.skipped").count();
+        InMemorySource<Message<AttendeeRegisteredEvent>> attendeesCache = inMemoryConnector.source("attendees-cache");
+        IncomingKafkaRecordMetadata<?, ?> replayed = Mockito.mock(IncomingKafkaRecordMetadata.class);
+        Mockito.when(replayed.getHeaders()).thenReturn(new RecordHeaders().add(AttendeeEventPublisher.REPLAY_HEADER, new byte[]{1}));
+
+        // When: a replay sends an attendee that is already stored
+        attendeesCache.send(Message.of(new AttendeeRegisteredEvent("gandalf@valinor.me", "Gandalf"), Metadata.of(replayed)));
+        attendeeCacheInvalidator.evictPending();
+
+        // Then: the local cache is left alone
+        assertEquals(before, invalidations());
+        assertEquals(skippedBefore + 1, meterRegistry.counter("attendees.cache.invalidations.skipped").count());
+    }
+}
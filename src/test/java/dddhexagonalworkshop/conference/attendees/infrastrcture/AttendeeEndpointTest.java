@@ -0,0 +1,104 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+public class AttendeeEndpointTest {
+
+    @InjectMock
+    AttendeeEventPublisher attendeeEventPublisher;
+
+    String run;
+
+    @BeforeEach
+    public void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private String register(String firstName, String lastName) {
+        String email = firstName.toLowerCase() + "." + run + "@shire.me";
+        given().contentType(ContentType.JSON)
+                .body("""
+                        {"email":"%s","firstName":"%s","lastName":"%s","address":{"street":"Bag End","city":"Hobbiton",
+                         "stateOrProvince":"The Shire","postCode":"SH1 1RE","country":"Middle Earth"},"tShirtSize":"M"}
+                        """.formatted(email, firstName, lastName))
+                .when().post("/attendees")
+                .then().statusCode(201);
+        return email;
+    }
+
+    @Test
+    @DisplayName("Should find a registered attendee by email")
+    public void testGetAttendee() {
+        // Given
+        String email = register("Frodo", "Baggins");
+
+        // When & Then
+        given().when().get("/attendees/" + email)
+                .then().statusCode(200)
+                .body("email", equalTo(email))
+                .body("fullName", equalTo("Frodo Baggins"));
+    }
+
+    @Test
+    @DisplayName("Should return 409 naming the email when it is already registered")
+    public void testRegisterDuplicate() {
+        // Given
+        String email = register("Lobelia", "Sackville-Baggins");
+
+        // When & Then
+        given().contentType(ContentType.JSON)
+                .body("""
+                        {"email":"%s","firstName":"Lobelia","lastName":"Sackville-Baggins","address":{"street":"Bag End",
+                         "city":"Hobbiton","stateOrProvince":"The Shire","postCode":"SH1 1RE","country":"Middle Earth"}}
+                        """.formatted(email))
+                .when().post("/attendees")
+                .then().statusCode(409)
+                .body("email", equalTo(email));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown email")
+    public void testGetUnknownAttendee() {
+        given().when().get("/attendees/sauron." + run + "@mordor.me")
+                .then().statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative page")
+    public void testListNegativePage() {
+        given().queryParam("page", -1)
+                .when().get("/attendees")
+                .then().statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should clamp the page size to the configured maximum")
+    public void testListClampsPageSize() {
+        // Given: more attendees than the test maximum page size of two
+        register("Merry", "Brandybuck");
+        register("Pippin", "Took");
+        register("Fatty", "Bolger");
+
+        // When & Then
+        given().queryParam("size", 1_000_000)
+                .when().get("/attendees")
+                .then().statusCode(200)
+                .body("$", hasSize(2));
+        given().queryParam("size", 0)
+                .when().get("/attendees")
+                .then().statusCode(200)
+                .body("$", hasSize(1));
+    }
+}
@@ -0,0 +1,82 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+public class AttendeeEventJournalForwarderTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+
+    @TempDir
+    Path directory;
+
+    private AttendeeEventJournal journal;
+
+    private AttendeeEventPublisher publisher;
+
+    private AttendeeEventJournalForwarder forwarder;
+
+    private final List<String> forwardedTraceIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        journal = new AttendeeEventJournal();
+        journal.enabled = true;
+        journal.directory = Optional.of(directory);
+        journal.segmentSize = 4096;
+        journal.sync = AttendeeEventJournal.Sync.INTERVAL;
+        journal.open();
+
+        publisher = new AttendeeEventPublisher();
+        publisher.attendeeEventJournal = journal;
+
+        AttendeeEventPublisher channel = Mockito.mock(AttendeeEventPublisher.class);
+        Mockito.when(channel.publishAsync(any(AttendeeRegisteredEvent.class))).thenAnswer(invocation -> {
+            forwardedTraceIds.add(Span.current().getSpanContext().getTraceId());
+            return CompletableFuture.completedFuture(null);
+        });
+        forwarder = new AttendeeEventJournalForwarder();
+        forwarder.attendeeEventJournal = journal;
+        forwarder.attendeeEventPublisher = channel;
+        forwarder.batchSize = 10;
+    }
+
+    @Test
+    @DisplayName("Should send a journaled event within the trace of its registration")
+    public void testForwardsTraceContext() {
+        // Arrange: one registration within a trace and one outside of any
+        Span registration = Span.wrap(SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault()));
+        try (Scope ignored = registration.makeCurrent()) {
+            publisher.publish(new AttendeeRegisteredEvent("eowyn@rohan.me", "Eowyn"));
+        }
+        publisher.publish(new AttendeeRegisteredEvent("eomer@rohan.me", "Eomer"));
+
+        // Act
+        forwarder.forward();
+
+        // Assert
+        assertEquals(List.of(TRACE_ID, SpanContext.getInvalid().getTraceId()), forwardedTraceIds,
+                "Only the traced registration should be forwarded within its trace");
+        assertEquals(2, journal.committedSequence(), "Both events should be committed");
+    }
+}
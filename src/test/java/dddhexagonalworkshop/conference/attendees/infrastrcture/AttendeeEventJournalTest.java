@@ -0,0 +1,169 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import dddhexagonalworkshop.conference.attendees.infrastrcture.AttendeeEventJournal.JournalEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttendeeEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private AttendeeEventJournal openJournal(int segmentSize) {
+        return openJournal(segmentSize, AttendeeEventJournal.Sync.INTERVAL);
+    }
+
+    private AttendeeEventJournal openJournal(int segmentSize, AttendeeEventJournal.Sync sync) {
+        AttendeeEventJournal journal = new AttendeeEventJournal();
+        journal.enabled = true;
+        journal.directory = Optional.of(directory);
+        journal.segmentSize = segmentSize;
+        journal.sync = sync;
+        journal.open();
+        return journal;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".segment")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back appended events in sequence order")
+    public void testAppendAndRead() {
+        // Arrange
+        AttendeeEventJournal journal = openJournal(4096);
+
+        // Act
+        long first = journal.append(new AttendeeRegisteredEvent("frodo.baggins@shire.me", "Frodo Baggins"), null);
+        long second = journal.append(new AttendeeRegisteredEvent("samwise.gamgee@shire.me", null), null);
+        List<JournalEntry> entries = journal.readAfter(0, 10);
+
+        // Assert
+        assertEquals(1, first, "First sequence should be 1");
+        assertEquals(2, second, "Second sequence should be 2");
+        assertEquals(2, entries.size(), "Both events should be read back");
+        assertEquals(new AttendeeRegisteredEvent("frodo.baggins@shire.me", "Frodo Baggins"), entries.get(0).event());
+        assertEquals(new AttendeeRegisteredEvent("samwise.gamgee@shire.me", null), entries.get(1).event());
+        assertTrue(journal.readAfter(2, 10).isEmpty(), "Nothing should follow the last sequence");
+    }
+
+    @Test
+    @DisplayName("Should read back the trace context of each event")
+    public void testTraceParent() {
+        // Arrange
+        AttendeeEventJournal journal = openJournal(4096);
+        String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // Act
+        journal.append(new AttendeeRegisteredEvent("elrond@rivendell.me", "Elrond"), traceParent);
+        journal.append(new AttendeeRegisteredEvent("arwen@rivendell.me", "Arwen Undomiel"), null);
+        List<JournalEntry> entries = journal.readAfter(0, 10);
+
+        // Assert
+        assertEquals(traceParent, entries.get(0).traceParent(), "The trace context should be read back");
+        assertNull(entries.get(1).traceParent(), "An untraced event should have no trace context");
+        assertEquals(new AttendeeRegisteredEvent("arwen@rivendell.me", "Arwen Undomiel"), entries.get(1).event());
+    }
+
+    @Test
+    @DisplayName("Should roll segments and compact the committed ones")
+    public void testRollAndCompact() throws IOException {
+        // Arrange
+        AttendeeEventJournal journal = openJournal(128);
+        for (int i = 0; i < 10; i++) {
+            journal.append(new AttendeeRegisteredEvent("hobbit" + i + "@shire.me", "Hobbit " + i), null);
+        }
+        long segments = segmentCount();
+
+        // Act
+        List<JournalEntry> entries = journal.readAfter(0, 100);
+        journal.commit(8);
+        journal.compact();
+
+        // Assert
+        assertTrue(segments > 1, "Small segments should have rolled");
+        assertEquals(10, entries.size(), "Events should be read across segments");
+        assertEquals(10, entries.getLast().sequence(), "Last sequence should be 10");
+        assertTrue(segmentCount() < segments, "Committed segments should be deleted");
+        assertEquals(List.of(9L, 10L), journal.readAfter(8, 100).stream().map(JournalEntry::sequence).toList(),
+                "Uncommitted events should survive compaction");
+    }
+
+    @Test
+    @DisplayName("Should recover after a restart and discard a torn record")
+    public void testRecover() throws IOException {
+        // Arrange
+        AttendeeEventJournal journal = openJournal(4096);
+        journal.append(new AttendeeRegisteredEvent("aragorn@gondor.me", "Aragorn Elessar"), null);
+        journal.append(new AttendeeRegisteredEvent("boromir@gondor.me", "Boromir"), null);
+        journal.commit(1);
+        journal.close();
+
+        // corrupt the payload of the second record
+        Path segment = directory.resolve(String.format("%020d.segment", 1));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int secondRecord = AttendeeEventJournal.HEADER_SIZE + Integer.BYTES + 17 + Integer.BYTES + 15 + Integer.BYTES;
+            channel.write(ByteBuffer.wrap(new byte[]{42}), secondRecord + AttendeeEventJournal.HEADER_SIZE + 5);
+        }
+
+        // Act
+        AttendeeEventJournal reopened = openJournal(4096);
+        long next = reopened.append(new AttendeeRegisteredEvent("faramir@gondor.me", "Faramir"), null);
+
+        // Assert
+        assertEquals(1, reopened.committedSequence(), "Committed offset should be restored");
+        assertEquals(2, next, "The torn record's sequence should be reused");
+        assertEquals(List.of(new AttendeeRegisteredEvent("faramir@gondor.me", "Faramir")),
+                reopened.readAfter(1, 10).stream().map(JournalEntry::event).toList());
+    }
+
+    @Test
+    @DisplayName("Should force each record and read it back after a restart when syncing on append")
+    public void testSyncOnAppend() {
+        // Arrange
+        AttendeeEventJournal journal = openJournal(128, AttendeeEventJournal.Sync.APPEND);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            journal.append(new AttendeeRegisteredEvent("ent" + i + "@fangorn.me", "Ent " + i), null);
+        }
+        journal.force();
+        journal.close();
+        AttendeeEventJournal reopened = openJournal(128, AttendeeEventJournal.Sync.APPEND);
+
+        // Assert
+        assertEquals(5, reopened.lastSequence(), "Every forced record should be recovered");
+        assertEquals(new AttendeeRegisteredEvent("ent4@fangorn.me", "Ent 4"), reopened.readAfter(4, 10).get(0).event());
+    }
+
+    @Test
+    @DisplayName("Should refuse to open an enabled journal without a directory")
+    public void testRequiresDirectory() {
+        // Arrange
+        AttendeeEventJournal journal = new AttendeeEventJournal();
+        journal.enabled = true;
+        journal.directory = Optional.empty();
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, journal::open);
+
+        // Assert
+        assertTrue(exception.getMessage().contains("attendees.journal.directory"), "The missing property should be named");
+    }
+}
@@ -0,0 +1,154 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dddhexagonalworkshop.conference.attendees.domain.aggregates.Attendee;
+import dddhexagonalworkshop.conference.attendees.domain.events.AttendeeRegisteredEvent;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address;
+import dddhexagonalworkshop.conference.attendees.persistence.AttendeeRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+public class AttendeeEventReplayerTest {
+
+    @Inject
+    AttendeeEventReplayer attendeeEventReplayer;
+
+    @Inject
+    AttendeeRepository attendeeRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "attendees.replay.directory")
+    Path directory;
+
+    String run;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private List<String> registerHobbits(int from, int to) {
+        List<String> emails = IntStream.range(from, to).mapToObj(i -> "hobbit" + i + "." + run + "@shire.me").toList();
+        QuarkusTransaction.requiringNew().run(() -> emails.forEach(email -> attendeeRepository.persist(new Attendee(
+                email, "Hobbit", run, new Address("Bag End", null, "Hobbiton", "The Shire", "SH1 1RE", "Middle Earth")))));
+        return emails;
+    }
+
+    private ReplayStatus awaitReplay() throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            ReplayStatus status = attendeeEventReplayer.status().orElseThrow();
+            if (status.state() != ReplayStatus.State.RUNNING) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        fail("Replay did not finish");
+        return null;
+    }
+
+    private List<String> snapshotEmailsOfThisRun() throws IOException {
+        List<String> emails = new ArrayList<>();
+        for (String line : Files.readAllLines(directory.resolve(AttendeeEventReplayer.SNAPSHOT_FILE))) {
+            String email = objectMapper.readValue(line, AttendeeRegisteredEvent.class).email();
+            if (email.contains(run)) {
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    @Test
+    public void testReplayPagesInIdOrderAndPersistsCheckpoint() throws Exception {
+        // Given: five attendees, more than two pages of the test page size
+        List<String> emails = registerHobbits(0, 5);
+
+        // When: replaying everything to the snapshot file
+        attendeeEventReplayer.start(ReplayTarget.FILE, 0L, 0);
+        ReplayStatus status = awaitReplay();
+
+        // Then: every attendee is written once, in registration order, and the checkpoint is persisted
+        assertEquals(ReplayStatus.State.COMPLETED, status.state());
+        assertEquals(emails, snapshotEmailsOfThisRun());
+        assertEquals(status.checkpoint(), attendeeEventReplayer.readCheckpoint(ReplayTarget.FILE));
+    }
+
+    @Test
+    public void testReplayResumesFromCheckpoint() throws Exception {
+        // Given: a completed replay
+        List<String> emails = new ArrayList<>(registerHobbits(0, 3));
+        attendeeEventReplayer.start(ReplayTarget.FILE, 0L, 0);
+        long checkpoint = awaitReplay().checkpoint();
+
+        // When: more attendees register and the replay is started again without a starting point
+        emails.addAll(registerHobbits(3, 5));
+        ReplayStatus started = attendeeEventReplayer.start(ReplayTarget.FILE, null, 0);
+        ReplayStatus status = awaitReplay();
+
+        // Then: only the new attendees are appended
+        assertEquals(checkpoint, started.checkpoint(), "Replay should resume from the persisted checkpoint");
+        assertEquals(2, status.replayed());
+        assertEquals(emails, snapshotEmailsOfThisRun());
+    }
+
+    @Test
+    public void testReplayFromStartWritesNewSnapshot() throws Exception {
+        // Given: a completed replay of everything
+        List<String> emails = registerHobbits(0, 3);
+        attendeeEventReplayer.start(ReplayTarget.FILE, 0L, 0);
+        awaitReplay();
+
+        // When: everything is replayed again
+        attendeeEventReplayer.start(ReplayTarget.FILE, 0L, 0);
+        ReplayStatus status = awaitReplay();
+
+        // Then: the snapshot holds every attendee once
+        List<String> lines = Files.readAllLines(directory.resolve(AttendeeEventReplayer.SNAPSHOT_FILE));
+        assertEquals(ReplayStatus.State.COMPLETED, status.state());
+        assertEquals(status.replayed(), lines.size(), "The snapshot should only hold the second replay");
+        assertEquals(lines.size(), new HashSet<>(lines).size(), "No attendee should be written twice");
+        assertEquals(emails, snapshotEmailsOfThisRun());
+    }
+
+    @Test
+    public void testReplayIsThrottled() throws Exception {
+        // Given: some attendees
+        registerHobbits(0, 4);
+
+        // When: replaying at ten events per second
+        long started = System.nanoTime();
+        attendeeEventReplayer.start(ReplayTarget.FILE, 0L, 10);
+        ReplayStatus status = awaitReplay();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then: the replay takes at least as long as the rate allows
+        assertEquals(ReplayStatus.State.COMPLETED, status.state());
+        assertTrue(elapsedMillis >= status.replayed() * 100 - 50,
+                "Replaying " + status.replayed() + " events took only " + elapsedMillis + "ms");
+    }
+}
@@ -0,0 +1,95 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize;
+import dddhexagonalworkshop.conference.attendees.salesteam.DietaryRequirements;
+import dddhexagonalworkshop.conference.attendees.salesteam.InvalidCustomerValue;
+import dddhexagonalworkshop.conference.attendees.salesteam.InvalidCustomerValuesException;
+import dddhexagonalworkshop.conference.attendees.salesteam.SalesteamRegistrationRequest;
+import dddhexagonalworkshop.conference.attendees.salesteam.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnumLookupCustomizerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        new EnumLookupCustomizer().customize(objectMapper);
+    }
+
+    private static String customer(String name, String dietaryRequirements, String size) {
+        return """
+                {"firstName":"%s","email":"%s@shire.me","customerDetails":{"dietaryRequirements":"%s","size":"%s"}}
+                """.formatted(name, name.toLowerCase(), dietaryRequirements, size);
+    }
+
+    @Test
+    @DisplayName("Should bind enum aliases through the lookups")
+    public void testBindsAliases() throws Exception {
+        // Arrange
+        String command = """
+                {"email":"frodo@shire.me","mealPreference":"Veggie","tShirtSize":"Extra Small"}
+                """;
+        String request = "{\"customers\":[" + customer("Samwise", "gluten free", "2XL") + "]}";
+
+        // Act
+        RegisterAttendeeCommand registerAttendeeCommand = objectMapper.readValue(command, RegisterAttendeeCommand.class);
+        SalesteamRegistrationRequest salesteamRegistrationRequest = objectMapper.readValue(request, SalesteamRegistrationRequest.class);
+
+        // Assert
+        assertEquals(MealPreference.VEGETARIAN, registerAttendeeCommand.mealPreference());
+        assertEquals(TShirtSize.XS, registerAttendeeCommand.tShirtSize());
+        assertEquals(DietaryRequirements.GLUTEN_FREE, salesteamRegistrationRequest.customers().get(0).customerDetails().dietaryRequirements());
+        assertEquals(Size.XXL, salesteamRegistrationRequest.customers().get(0).customerDetails().size());
+    }
+
+    @Test
+    @DisplayName("Should reject an unrecognized value of a single registration with its path")
+    public void testRejectsInvalidCommandValue() {
+        // Arrange
+        String command = """
+                {"email":"frodo@shire.me","tShirtSize":"Enormous"}
+                """;
+
+        // Act
+        InvalidFormatException exception = assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue(command, RegisterAttendeeCommand.class));
+
+        // Assert
+        assertEquals("Enormous", exception.getValue());
+        assertEquals("tShirtSize", exception.getPath().get(exception.getPath().size() - 1).getFieldName());
+    }
+
+    @Test
+    @DisplayName("Should report every unrecognized value of a salesteam payload")
+    public void testCollectsInvalidSalesteamValues() {
+        // Arrange
+        String request = "{\"customers\":["
+                + customer("Frodo", "NONE", "Enormous") + ","
+                + customer("Samwise", "VEGETARIAN", "M") + ","
+                + customer("Pippin", "Second Breakfast", "S")
+                + "]}";
+
+        // Act
+        InvalidCustomerValuesException exception = assertThrows(InvalidCustomerValuesException.class,
+                () -> objectMapper.readValue(request, SalesteamRegistrationRequest.class));
+
+        // Assert
+        assertEquals(List.of(
+                new InvalidCustomerValue("customers[0].customerDetails.size", "Enormous"),
+                new InvalidCustomerValue("customers[2].customerDetails.dietaryRequirements", "Second Breakfast")),
+                exception.getInvalidValues());
+    }
+}
@@ -0,0 +1,23 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryAttendeesChannels implements QuarkusTestResourceLifecycleManager {
+
+    @Override
+    public Map<String, String> start() {
+        Map<String, String> properties = new HashMap<>();
+        properties.putAll(InMemoryConnector.switchIncomingChannelsToInMemory("attendees-cache"));
+        properties.putAll(InMemoryConnector.switchOutgoingChannelsToInMemory("attendees"));
+        return properties;
+    }
+
+    @Override
+    public void stop() {
+        InMemoryConnector.clear();
+    }
+}
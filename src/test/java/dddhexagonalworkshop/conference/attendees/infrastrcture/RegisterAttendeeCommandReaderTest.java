@@ -0,0 +1,117 @@
+package dddhexagonalworkshop.conference.attendees.infrastrcture;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegisterAttendeeCommandReaderTest {
+
+    private ObjectMapper objectMapper;
+
+    private RegisterAttendeeCommandReader reader;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        new EnumLookupCustomizer().customize(objectMapper);
+        reader = new RegisterAttendeeCommandReader();
+        reader.objectMapper = objectMapper;
+        reader.enabled = true;
+    }
+
+    private RegisterAttendeeCommand read(String json) throws IOException {
+        return reader.readFrom(RegisterAttendeeCommand.class, RegisterAttendeeCommand.class, new Annotation[0],
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String lastField(JsonMappingException exception) {
+        return exception.getPath().get(exception.getPath().size() - 1).getFieldName();
+    }
+
+    @Test
+    @DisplayName("Should read the same command as Jackson, skipping unknown fields and keeping nulls")
+    public void testMatchesJackson() throws IOException {
+        // Arrange
+        String json = """
+                {"email":"frodo.baggins@shire.me","ring":{"bearer":["Frodo"],"name":"The One"},"firstName":"Frodo",
+                 "lastName":null,"address":{"street":"Bag End","street2":null,"city":"Hobbiton","stateOrProvince":"The Shire",
+                 "postCode":1234,"country":"Middle Earth","hobbitHole":true},"mealPreference":null,"tShirtSize":"small"}
+                """;
+
+        // Act
+        RegisterAttendeeCommand streamed = read(json);
+
+        // Assert
+        assertEquals(objectMapper.readValue(json, RegisterAttendeeCommand.class), streamed);
+    }
+
+    @Test
+    @DisplayName("Should reject an object or array in a string field, as Jackson does")
+    public void testRejectsStructuredValueInStringField() {
+        // Arrange
+        String object = """
+                {"email":{"address":"frodo.baggins@shire.me"},"firstName":"Frodo"}
+                """;
+        String array = """
+                {"email":"frodo.baggins@shire.me","address":{"street":["Bag End"],"city":"Hobbiton"}}
+                """;
+
+        // Act
+        MismatchedInputException streamedObject = assertThrows(MismatchedInputException.class, () -> read(object));
+        MismatchedInputException jacksonObject = assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue(object, RegisterAttendeeCommand.class));
+        MismatchedInputException streamedArray = assertThrows(MismatchedInputException.class, () -> read(array));
+        MismatchedInputException jacksonArray = assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue(array, RegisterAttendeeCommand.class));
+
+        // Assert
+        assertEquals(lastField(jacksonObject), lastField(streamedObject));
+        assertEquals(lastField(jacksonArray), lastField(streamedArray));
+        assertEquals("street", lastField(streamedArray));
+    }
+
+    @Test
+    @DisplayName("Should reject an unrecognized enum value with its field, as Jackson does")
+    public void testRejectsInvalidEnum() {
+        // Arrange
+        String json = """
+                {"email":"frodo.baggins@shire.me","mealPreference":"Second Breakfast"}
+                """;
+
+        // Act
+        InvalidFormatException streamed = assertThrows(InvalidFormatException.class, () -> read(json));
+        InvalidFormatException jackson = assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue(json, RegisterAttendeeCommand.class));
+
+        // Assert
+        assertEquals(jackson.getValue(), streamed.getValue());
+        assertEquals(lastField(jackson), lastField(streamed));
+    }
+
+    @Test
+    @DisplayName("Should leave the command to Jackson when streaming codecs are disabled")
+    public void testDisabled() {
+        // Arrange
+        reader.enabled = false;
+
+        // Act & Assert
+        assertFalse(reader.isReadable(RegisterAttendeeCommand.class, RegisterAttendeeCommand.class, new Annotation[0],
+                MediaType.APPLICATION_JSON_TYPE));
+    }
+}
@@ -0,0 +1,47 @@
+package dddhexagonalworkshop.conference.attendees.persistence;
+
+import dddhexagonalworkshop.conference.attendees.domain.aggregates.Attendee;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.Address;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+public class AttendeeRepositoryTest {
+
+    @Inject
+    AttendeeRepository attendeeRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    @DisplayName("Should find an attendee by email through the natural-id cache")
+    public void testFindByEmail() {
+        // Arrange
+        String email = "galadriel." + UUID.randomUUID().toString().substring(0, 8) + "@lothlorien.me";
+        QuarkusTransaction.requiringNew().run(() -> attendeeRepository.persist(new Attendee(
+                email, "Galadriel", "of Lorien", new Address("Caras Galadhon", null, "Lothlorien", "Lothlorien", "LL1 1ML", "Middle Earth"))));
+
+        // Act
+        Optional<AttendeeEntity> first = QuarkusTransaction.requiringNew().call(() -> attendeeRepository.findByEmail(email));
+        long hitsBefore = sessionFactory.getStatistics().getNaturalIdCacheHitCount();
+        Optional<AttendeeEntity> second = QuarkusTransaction.requiringNew().call(() -> attendeeRepository.findByEmail(email));
+        long hitsAfter = sessionFactory.getStatistics().getNaturalIdCacheHitCount();
+
+        // Assert
+        assertEquals(email, first.orElseThrow().getEmail());
+        assertEquals(email, second.orElseThrow().getEmail());
+        assertTrue(hitsAfter > hitsBefore, "A repeated lookup should be served from the natural-id cache");
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> attendeeRepository.findByEmail("gollum@misty.me")).isEmpty(),
+                "An unknown email should not be found");
+    }
+}
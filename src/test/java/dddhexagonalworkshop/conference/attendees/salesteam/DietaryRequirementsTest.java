@@ -0,0 +1,32 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DietaryRequirementsTest {
+
+    @Test
+    @DisplayName("Should parse dietary requirements ignoring case and surrounding whitespace")
+    public void testParseIgnoresCaseAndWhitespace() {
+        assertEquals(Optional.of(DietaryRequirements.NONE), DietaryRequirements.parse("none "), "Trailing whitespace should be ignored");
+        assertEquals(Optional.of(DietaryRequirements.VEGETARIAN), DietaryRequirements.parse(" Vegetarian"), "Leading whitespace should be ignored");
+    }
+
+    @Test
+    @DisplayName("Should parse the aliases sent by the CRM")
+    public void testParseAliases() {
+        assertEquals(Optional.of(DietaryRequirements.GLUTEN_FREE), DietaryRequirements.parse("Gluten-Free"), "Gluten-Free should map to GLUTEN_FREE");
+        assertEquals(Optional.of(DietaryRequirements.VEGETARIAN), DietaryRequirements.parse("veggie"), "Veggie should map to VEGETARIAN");
+    }
+
+    @Test
+    @DisplayName("Should return empty for unrecognized dietary requirements")
+    public void testParseUnrecognized() {
+        assertTrue(DietaryRequirements.parse("Lembas only").isEmpty(), "Unknown dietary requirements should not parse");
+        assertTrue(DietaryRequirements.parse(null).isEmpty(), "Null should not parse");
+    }
+}
@@ -0,0 +1,23 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import java.util.Map;
+
+/**
+ * Runs the {@link SalesteamEndpointTest} payloads with the streaming codecs disabled.
+ */
+@QuarkusTest
+@TestProfile(SalesteamEndpointJacksonCodecsTest.JacksonCodecs.class)
+public class SalesteamEndpointJacksonCodecsTest extends SalesteamEndpointTest {
+
+    public static class JacksonCodecs implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("attendees.json.streaming-codecs", "false");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeAlreadyRegisteredException;
+import dddhexagonalworkshop.conference.attendees.domain.services.AttendeeService;
+import dddhexagonalworkshop.conference.attendees.domain.services.RegisterAttendeeCommand;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.MealPreference;
+import dddhexagonalworkshop.conference.attendees.domain.valueobjects.TShirtSize;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+
+/**
+ * Runs the salesteam payloads through the streaming reader; {@link SalesteamEndpointJacksonCodecsTest} runs the
+ * same payloads through the default Jackson reader.
+ */
+@QuarkusTest
+public class SalesteamEndpointTest {
+
+    @InjectMock
+    AttendeeService attendeeService;
+
+    @Test
+    @DisplayName("Should register customers, skipping unknown fields and keeping nulls")
+    public void testRegistersCustomers() {
+        // Given
+        String payload = """
+                {"source":{"crm":"Rohan"},"customers":[
+                  {"firstName":"Meriadoc","lastName":"Brandybuck","email":"merry@buckland.me","employer":null,
+                   "loyalty":{"tier":"Gold"},"customerDetails":{"dietaryRequirements":"Veggie","size":"Large"}},
+                  {"firstName":"Peregrin","lastName":"Took","email":"pippin@tookland.me",
+                   "customerDetails":{"dietaryRequirements":null,"size":null}}
+                ]}
+                """;
+
+        // When
+        given().contentType(ContentType.JSON).body(payload)
+                .when().post("/salesteam")
+                .then().statusCode(202);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RegisterAttendeeCommand>> commands = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(attendeeService).registerAttendees(commands.capture());
+        assertEquals(List.of(
+                new RegisterAttendeeCommand("merry@buckland.me", "Meriadoc", "Brandybuck", null, MealPreference.VEGETARIAN, TShirtSize.L),
+                new RegisterAttendeeCommand("pippin@tookland.me", "Peregrin", "Took", null, MealPreference.NONE, null)),
+                commands.getValue());
+    }
+
+    @Test
+    @DisplayName("Should return 409 naming a customer that is already registered")
+    public void testRejectsAlreadyRegisteredCustomer() {
+        // Given
+        Mockito.when(attendeeService.registerAttendees(anyList()))
+                .thenThrow(new AttendeeAlreadyRegisteredException("bilbo@shire.me"));
+        String payload = """
+                {"customers":[{"firstName":"Bilbo","lastName":"Baggins","email":"bilbo@shire.me","customerDetails":{"size":"S"}}]}
+                """;
+
+        // When & Then
+        given().contentType(ContentType.JSON).body(payload)
+                .when().post("/salesteam")
+                .then().statusCode(409)
+                .body("email", equalTo("bilbo@shire.me"));
+    }
+
+    @Test
+    @DisplayName("Should reject an object in a string field")
+    public void testRejectsStructuredValueInStringField() {
+        // Given
+        String payload = """
+                {"customers":[{"firstName":{"elvish":"Aragorn"},"email":"aragorn@gondor.me","customerDetails":{"size":"L"}}]}
+                """;
+
+        // When & Then
+        given().contentType(ContentType.JSON).body(payload)
+                .when().post("/salesteam")
+                .then().statusCode(400);
+        Mockito.verify(attendeeService, Mockito.never()).registerAttendees(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject every unrecognized value with the path of its customer")
+    public void testRejectsInvalidEnums() {
+        // Given
+        String payload = """
+                {"customers":[
+                  {"firstName":"Gandalf","email":"gandalf@valinor.me","customerDetails":{"dietaryRequirements":"NONE","size":"M"}},
+                  {"firstName":"Treebeard","email":"treebeard@fangorn.me","customerDetails":{"dietaryRequirements":"NONE","size":"Ent-sized"}},
+                  {"firstName":"Bilbo","email":"bilbo@shire.me","customerDetails":{"dietaryRequirements":"Second Breakfast","size":"S"}}
+                ]}
+                """;
+
+        // When & Then
+        given().contentType(ContentType.JSON).body(payload)
+                .when().post("/salesteam")
+                .then().statusCode(400)
+                .body("invalidValues.path", contains("customers[1].customerDetails.size", "customers[2].customerDetails.dietaryRequirements"))
+                .body("invalidValues.value", contains("Ent-sized", "Second Breakfast"));
+        Mockito.verify(attendeeService, Mockito.never()).registerAttendees(anyList());
+    }
+}
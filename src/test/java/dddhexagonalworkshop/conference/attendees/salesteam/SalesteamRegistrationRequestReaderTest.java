@@ -0,0 +1,116 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import dddhexagonalworkshop.conference.attendees.infrastrcture.EnumLookupCustomizer;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalesteamRegistrationRequestReaderTest {
+
+    private ObjectMapper objectMapper;
+
+    private SalesteamRegistrationRequestReader reader;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        new EnumLookupCustomizer().customize(objectMapper);
+        reader = new SalesteamRegistrationRequestReader();
+        reader.objectMapper = objectMapper;
+        reader.enabled = true;
+    }
+
+    private SalesteamRegistrationRequest read(String json) throws IOException {
+        return reader.readFrom(SalesteamRegistrationRequest.class, SalesteamRegistrationRequest.class, new Annotation[0],
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String path(JsonMappingException exception) {
+        return exception.getPath().stream()
+                .map(reference -> reference.getFieldName() != null ? "." + reference.getFieldName() : "[" + reference.getIndex() + "]")
+                .collect(Collectors.joining())
+                .substring(1);
+    }
+
+    @Test
+    @DisplayName("Should read the same request as Jackson, skipping unknown fields and keeping nulls")
+    public void testMatchesJackson() throws IOException {
+        // Arrange
+        String json = """
+                {"source":{"crm":"Rohan","exportedBy":["Eomer"]},"customers":[
+                  {"firstName":"Meriadoc","lastName":"Brandybuck","email":"merry@buckland.me","employer":null,
+                   "loyalty":{"tier":"Gold"},"customerDetails":{"dietaryRequirements":"Veggie","size":"Small","sleeve":"long"}},
+                  {"firstName":"Peregrin","lastName":"Took","email":"pippin@tookland.me","customerDetails":null},
+                  {"firstName":"Gimli","email":"gimli@erebor.me","customerDetails":{"dietaryRequirements":null,"size":"XS"}}
+                ]}
+                """;
+
+        // Act
+        SalesteamRegistrationRequest streamed = read(json);
+
+        // Assert
+        assertEquals(objectMapper.readValue(json, SalesteamRegistrationRequest.class), streamed);
+        assertEquals(3, streamed.customers().size());
+    }
+
+    @Test
+    @DisplayName("Should reject an object or array in a string field with its path, as Jackson does")
+    public void testRejectsStructuredValueInStringField() {
+        // Arrange
+        String json = """
+                {"customers":[
+                  {"firstName":"Legolas","email":"legolas@mirkwood.me"},
+                  {"firstName":{"elvish":"Aragorn"},"email":"aragorn@gondor.me","customerDetails":{"size":"L"}}
+                ]}
+                """;
+
+        // Act
+        MismatchedInputException streamed = assertThrows(MismatchedInputException.class, () -> read(json));
+        MismatchedInputException jackson = assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue(json, SalesteamRegistrationRequest.class));
+
+        // Assert
+        assertEquals("customers[1].firstName", path(streamed));
+        assertEquals(path(jackson), path(streamed));
+    }
+
+    @Test
+    @DisplayName("Should report every unrecognized enum value with its customer path, as Jackson does")
+    public void testReportsInvalidEnums() {
+        // Arrange
+        String json = """
+                {"customers":[
+                  {"firstName":"Gandalf","customerDetails":{"dietaryRequirements":"NONE","size":"M"}},
+                  {"firstName":"Treebeard","customerDetails":{"dietaryRequirements":"Water only","size":"Ent-sized"}}
+                ]}
+                """;
+
+        // Act
+        InvalidCustomerValuesException streamed = assertThrows(InvalidCustomerValuesException.class, () -> read(json));
+        InvalidCustomerValuesException jackson = assertThrows(InvalidCustomerValuesException.class,
+                () -> objectMapper.readValue(json, SalesteamRegistrationRequest.class));
+
+        // Assert
+        assertEquals(List.of(
+                new InvalidCustomerValue("customers[1].customerDetails.dietaryRequirements", "Water only"),
+                new InvalidCustomerValue("customers[1].customerDetails.size", "Ent-sized")),
+                streamed.getInvalidValues());
+        assertEquals(jackson.getInvalidValues(), streamed.getInvalidValues());
+    }
+}
@@ -0,0 +1,34 @@
+package dddhexagonalworkshop.conference.attendees.salesteam;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SizeTest {
+
+    @Test
+    @DisplayName("Should parse sizes ignoring case and surrounding whitespace")
+    public void testParseIgnoresCaseAndWhitespace() {
+        assertEquals(Optional.of(Size.XS), Size.parse("xs "), "Trailing whitespace should be ignored");
+        assertEquals(Optional.of(Size.L), Size.parse(" l"), "Leading whitespace should be ignored");
+        assertEquals(Optional.of(Size.XXL), Size.parse("XXL"), "Exact names should parse");
+    }
+
+    @Test
+    @DisplayName("Should parse the spelled-out aliases sent by the CRM")
+    public void testParseAliases() {
+        assertEquals(Optional.of(Size.M), Size.parse("medium"), "Medium should map to M");
+        assertEquals(Optional.of(Size.XL), Size.parse("X-Large"), "X-Large should map to XL");
+        assertEquals(Optional.of(Size.XXL), Size.parse("2xl"), "2XL should map to XXL");
+    }
+
+    @Test
+    @DisplayName("Should return empty for unrecognized sizes")
+    public void testParseUnrecognized() {
+        assertTrue(Size.parse("Hobbit-sized").isEmpty(), "Unknown sizes should not parse");
+        assertTrue(Size.parse(null).isEmpty(), "Null should not parse");
+    }
+}